@@ -0,0 +1,83 @@
+package org.prebid.cache.benchmark;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.prebid.cache.repository.aerospike.AerospikePolicies;
+import org.prebid.cache.repository.aerospike.AerospikePropertyConfiguration;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// run with -prof gc to compare allocations per write; multiply by the peak write rate for allocations per second
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AerospikePoliciesBenchmark {
+
+    private static final long[] EXPIRIES = {300, 900, 3600};
+
+    private AerospikePropertyConfiguration configuration;
+
+    private AerospikePolicies policies;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        configuration = new AerospikePropertyConfiguration();
+        configuration.setFirstBackoff(300L);
+        configuration.setMaxBackoff(1000L);
+        configuration.setMaxRetry(3);
+        configuration.setPreventUUIDDuplication(true);
+        policies = new AerospikePolicies(configuration);
+    }
+
+    @Benchmark
+    public void prebuiltPoliciesPerWrite(Blackhole blackhole) {
+        blackhole.consume(policies.writePolicy(nextExpiry()));
+        blackhole.consume(policies.retry());
+    }
+
+    // the policy and retry spec save used to build for every write
+    @Benchmark
+    public void newPoliciesPerWrite(Blackhole blackhole) {
+        final WritePolicy writePolicy = new WritePolicy();
+        writePolicy.setConnectTimeout(configuration.getConnectTimeout());
+        writePolicy.setTimeouts(configuration.getSocketTimeout(), configuration.getTotalTimeout());
+        if (configuration.isPreventUUIDDuplication()) {
+            writePolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+        }
+        writePolicy.expiration = (int) nextExpiry();
+
+        final Retry retry = Retry.backoff(configuration.getMaxRetry(),
+                        Duration.ofMillis(configuration.getFirstBackoff()))
+                .maxBackoff(Duration.ofMillis(configuration.getMaxBackoff()))
+                .filter(e -> e instanceof AerospikeException aerospikeException
+                        && Arrays.asList(ResultCode.GENERATION_ERROR, ResultCode.KEY_NOT_FOUND_ERROR)
+                        .contains(aerospikeException.getResultCode()));
+        blackhole.consume(writePolicy);
+        blackhole.consume(retry);
+    }
+
+    private long nextExpiry() {
+        return EXPIRIES[next++ % EXPIRIES.length];
+    }
+}
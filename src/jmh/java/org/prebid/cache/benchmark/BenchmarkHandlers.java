@@ -0,0 +1,83 @@
+package org.prebid.cache.benchmark;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.experimental.UtilityClass;
+import org.prebid.cache.builders.PrebidServerResponseBuilder;
+import org.prebid.cache.config.ProxyCacheConfig;
+import org.prebid.cache.config.WrittenIdFilterConfig;
+import org.prebid.cache.config.ReplicationConfig;
+import org.prebid.cache.handlers.cache.GetCacheHandler;
+import org.prebid.cache.handlers.cache.PostCacheHandler;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.repository.CacheConfig;
+import org.prebid.cache.repository.ReactiveRepository;
+import org.prebid.cache.routers.ApiConfig;
+import org.prebid.cache.service.HostResilienceRegistry;
+import org.prebid.cache.service.ProxyResponseCache;
+import org.prebid.cache.service.SecondaryCacheReplicator;
+import org.prebid.cache.service.WrittenIdFilter;
+import reactor.netty.http.client.HttpClient;
+
+// wires handlers the way the application context does, minus secondary caches and proxying
+@UtilityClass
+class BenchmarkHandlers {
+
+    private static final double SAMPLING_RATE = 0.01;
+
+    CacheConfig cacheConfig() {
+        final CacheConfig config = new CacheConfig();
+        config.setPrefix("prebid_");
+        config.setExpirySec(300);
+        config.setMinExpiry(15);
+        config.setMaxExpiry(28800);
+        config.setTimeoutMs(300);
+        config.setAllowExternalUUID(true);
+        config.setClientsCacheDuration(86400);
+        config.setClientsCacheSize(1000);
+        config.setMaxBatchFetchSize(100);
+        config.setMaxUuidLength(256);
+        return config;
+    }
+
+    ApiConfig apiConfig() {
+        final ApiConfig config = new ApiConfig();
+        config.setCachePath("/cache");
+        config.setStoragePath("/storage");
+        config.setApiKey("API_KEY");
+        return config;
+    }
+
+    HostResilienceRegistry hostResilienceRegistry() {
+        return new HostResilienceRegistry(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                new SimpleMeterRegistry());
+    }
+
+    WrittenIdFilter writtenIdFilter() {
+        return new WrittenIdFilter(new WrittenIdFilterConfig(), cacheConfig());
+    }
+
+    MetricsRecorder metricsRecorder() {
+        return new MetricsRecorder(new SimpleMeterRegistry());
+    }
+
+    PostCacheHandler postCacheHandler(ReactiveRepository<PayloadWrapper, String> repository,
+                                      MetricsRecorder metricsRecorder) {
+
+        final CacheConfig cacheConfig = cacheConfig();
+        final SecondaryCacheReplicator replicator = new SecondaryCacheReplicator(cacheConfig, new ReplicationConfig(),
+                apiConfig(), metricsRecorder, hostResilienceRegistry(), HttpClient.create());
+        return new PostCacheHandler(repository, cacheConfig, metricsRecorder, new PrebidServerResponseBuilder(),
+                replicator, writtenIdFilter(), SAMPLING_RATE, apiConfig());
+    }
+
+    GetCacheHandler getCacheHandler(ReactiveRepository<PayloadWrapper, String> repository,
+                                    MetricsRecorder metricsRecorder) {
+
+        return new GetCacheHandler(repository, cacheConfig(), apiConfig(), metricsRecorder,
+                new PrebidServerResponseBuilder(), hostResilienceRegistry(), HttpClient.create(),
+                new ProxyResponseCache(new ProxyCacheConfig(), metricsRecorder), writtenIdFilter(), SAMPLING_RATE);
+    }
+}
@@ -0,0 +1,23 @@
+package org.prebid.cache.benchmark;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+class BenchmarkPayloads {
+
+    private static final String VAST_HEADER = """
+            <VAST version="3.0"><Ad id="bench"><InLine><AdSystem>prebid</AdSystem>\
+            <AdTitle>"Benchmark" creative</AdTitle><Creatives><Creative><Linear><MediaFiles>""";
+    private static final String VAST_MEDIA_FILE = """
+            <MediaFile delivery="progressive" type="video/mp4" width="1280" height="720">\
+            <![CDATA[https://cdn.example.com/video.mp4?w=1280&h=720]]></MediaFile>""";
+    private static final String VAST_FOOTER = "</MediaFiles></Linear></Creative></Creatives></InLine></Ad></VAST>";
+
+    String vast(int size) {
+        final StringBuilder vast = new StringBuilder(size + VAST_MEDIA_FILE.length()).append(VAST_HEADER);
+        while (vast.length() + VAST_FOOTER.length() < size) {
+            vast.append(VAST_MEDIA_FILE);
+        }
+        return vast.append(VAST_FOOTER).toString();
+    }
+}
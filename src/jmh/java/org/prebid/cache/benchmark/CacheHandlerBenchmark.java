@@ -0,0 +1,92 @@
+package org.prebid.cache.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.cache.handlers.cache.GetCacheHandler;
+import org.prebid.cache.handlers.cache.PostCacheHandler;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadTransfer;
+import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.model.RequestObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class CacheHandlerBenchmark {
+
+    private static final String STORED_ID = "2be04ba5-8f9b-4a1e-8100-d573c40312f8";
+
+    @Param({"1024", "10240", "102400"})
+    private int payloadSize;
+
+    private PostCacheHandler postCacheHandler;
+
+    private GetCacheHandler getCacheHandler;
+
+    private RequestObject requestObject;
+
+    private MockServerRequest fetchRequest;
+
+    @Setup
+    public void setUp() {
+        final InMemoryReactiveRepository repository = new InMemoryReactiveRepository();
+        final MetricsRecorder metricsRecorder = BenchmarkHandlers.metricsRecorder();
+        postCacheHandler = BenchmarkHandlers.postCacheHandler(repository, metricsRecorder);
+        getCacheHandler = BenchmarkHandlers.getCacheHandler(repository, metricsRecorder);
+
+        final String vast = BenchmarkPayloads.vast(payloadSize);
+        requestObject = RequestObject.of(List.of(PayloadTransfer.builder()
+                .type("xml")
+                .value(vast)
+                .expiry(300L)
+                .build()));
+
+        repository.save(PayloadWrapper.builder()
+                .id(STORED_ID)
+                .prefix("prebid_")
+                .payload(Payload.of("xml", null, vast))
+                .expiry(300L)
+                .build()).block();
+        fetchRequest = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .queryParam("uuid", STORED_ID)
+                .build();
+    }
+
+    @Benchmark
+    public ServerResponse save() {
+        final MockServerRequest request = MockServerRequest.builder()
+                .method(HttpMethod.POST)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(Mono.just(requestObject));
+
+        return postCacheHandler.save(request).block();
+    }
+
+    @Benchmark
+    public ServerResponse fetch() {
+        return getCacheHandler.fetch(fetchRequest).block();
+    }
+}
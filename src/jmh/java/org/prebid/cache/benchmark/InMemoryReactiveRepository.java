@@ -0,0 +1,42 @@
+package org.prebid.cache.benchmark;
+
+import org.prebid.cache.exceptions.PayloadWrapperPropertyException;
+import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.repository.ReactiveRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// keeps handler benchmarks free of network and storage noise
+class InMemoryReactiveRepository implements ReactiveRepository<PayloadWrapper, String> {
+
+    private final Map<String, PayloadWrapper> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<PayloadWrapper> save(PayloadWrapper wrapper) {
+        try {
+            entries.put(wrapper.getNormalizedId(), wrapper);
+            return Mono.just(wrapper);
+        } catch (PayloadWrapperPropertyException e) {
+            return Mono.error(e);
+        }
+    }
+
+    @Override
+    public Flux<PayloadWrapper> saveAll(List<PayloadWrapper> wrappers) {
+        return Flux.fromIterable(wrappers).concatMap(this::save);
+    }
+
+    @Override
+    public Mono<PayloadWrapper> findById(String id) {
+        return Mono.justOrEmpty(entries.get(id));
+    }
+
+    @Override
+    public Flux<PayloadWrapper> findAllById(List<String> ids) {
+        return Flux.fromIterable(ids).mapNotNull(entries::get);
+    }
+}
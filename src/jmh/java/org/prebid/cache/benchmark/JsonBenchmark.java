@@ -0,0 +1,66 @@
+package org.prebid.cache.benchmark;
+
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.cache.helpers.Json;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class JsonBenchmark {
+
+    @Param({"1024", "2048", "10240", "20480", "102400"})
+    private int payloadSize;
+
+    private final Gson gson = new Gson();
+
+    private PayloadWrapper wrapper;
+
+    private String json;
+
+    @Setup
+    public void setUp() {
+        wrapper = PayloadWrapper.builder()
+                .id("2be04ba5-8f9b-4a1e-8100-d573c40312f8")
+                .prefix("prebid_")
+                .payload(Payload.of("xml", null, BenchmarkPayloads.vast(payloadSize)))
+                .timestamp(System.currentTimeMillis())
+                .expiry(300L)
+                .build();
+        json = Json.toJson(wrapper);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return Json.toJson(wrapper);
+    }
+
+    // what every write used to pay: the debug log argument was serialized even with debug disabled
+    @Benchmark
+    public String toJsonSerializedTwice() {
+        gson.toJson(wrapper);
+        return gson.toJson(wrapper);
+    }
+
+    @Benchmark
+    public PayloadWrapper createPayloadFromJson() {
+        return Json.createPayloadFromJson(json, PayloadWrapper.class);
+    }
+}
@@ -0,0 +1,57 @@
+package org.prebid.cache.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.cache.handlers.ServiceType;
+import org.prebid.cache.metrics.MeasurementTag;
+import org.prebid.cache.metrics.MetricsRecorder;
+
+import java.util.concurrent.TimeUnit;
+
+// run with -prof gc to compare allocations per operation
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetricsRecorderBenchmark {
+
+    private static final String PREFIX_PLACEHOLDER = "\\$\\{prefix\\}";
+
+    private MeterRegistry meterRegistry;
+
+    private MetricsRecorder metricsRecorder;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricsRecorder = new MetricsRecorder(meterRegistry);
+    }
+
+    @Benchmark
+    public void markMeterForTag() {
+        metricsRecorder.markMeterForTag("read", MeasurementTag.REQUEST);
+    }
+
+    // the lookup markMeterForTag used to perform on every call
+    @Benchmark
+    public void markMeterForTagWithRegexLookup() {
+        meterRegistry.counter(MeasurementTag.REQUEST.getTag().replaceAll(PREFIX_PLACEHOLDER, "read")).increment();
+    }
+
+    @Benchmark
+    public void requestTimer() {
+        metricsRecorder.createRequestTimerForServiceType(ServiceType.FETCH).stop();
+    }
+}
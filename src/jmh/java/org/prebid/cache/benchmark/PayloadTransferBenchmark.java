@@ -0,0 +1,54 @@
+package org.prebid.cache.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.cache.model.PayloadTransfer;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PayloadTransferBenchmark {
+
+    @Param({"1024", "10240", "102400"})
+    private int payloadSize;
+
+    private PayloadTransfer xmlTransfer;
+
+    private PayloadTransfer jsonTransfer;
+
+    @Setup
+    public void setUp() {
+        final String vast = BenchmarkPayloads.vast(payloadSize);
+        xmlTransfer = PayloadTransfer.builder().type("xml").value(vast).build();
+        // banner bids arrive as JSON objects and are re-serialized into the stored value
+        jsonTransfer = PayloadTransfer.builder()
+                .type("json")
+                .value(Map.of("adm", vast, "width", 300, "height", 250))
+                .build();
+    }
+
+    @Benchmark
+    public String xmlValueAsString() {
+        return xmlTransfer.valueAsString();
+    }
+
+    @Benchmark
+    public String jsonValueAsString() {
+        return jsonTransfer.valueAsString();
+    }
+}
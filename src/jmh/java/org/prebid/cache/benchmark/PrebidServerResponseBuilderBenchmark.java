@@ -0,0 +1,134 @@
+package org.prebid.cache.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.cache.builders.PrebidServerResponseBuilder;
+import org.prebid.cache.exceptions.ResourceNotFoundException;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.web.reactive.function.BodyInserters.fromValue;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrebidServerResponseBuilderBenchmark {
+
+    private static final ServerResponse.Context CONTEXT = new ServerResponse.Context() {
+
+        private final List<HttpMessageWriter<?>> messageWriters = HandlerStrategies.withDefaults().messageWriters();
+
+        @Override
+        public List<HttpMessageWriter<?>> messageWriters() {
+            return messageWriters;
+        }
+
+        @Override
+        public List<ViewResolver> viewResolvers() {
+            return List.of();
+        }
+    };
+
+    private final PrebidServerResponseBuilder builder = new PrebidServerResponseBuilder();
+
+    @Param({"1024", "51200"})
+    private int payloadSize;
+
+    private MockServerRequest request;
+
+    private PayloadWrapper wrapper;
+
+    private PayloadWrapper bytesWrapper;
+
+    @Setup
+    public void setUp() {
+        request = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .header(HttpHeaders.CONNECTION, "keep-alive")
+                .build();
+        wrapper = PayloadWrapper.builder()
+                .id("2be04ba5-8f9b-4a1e-8100-d573c40312f8")
+                .prefix("prebid_")
+                .payload(Payload.of("xml", null, BenchmarkPayloads.vast(payloadSize)))
+                .build();
+        // as read from the separate bins layout of Aerospike
+        bytesWrapper = PayloadWrapper.builder()
+                .id(wrapper.getId())
+                .prefix(wrapper.getPrefix())
+                .payload(Payload.of("xml", null, null))
+                .valueBytes(wrapper.getPayload().getValue().getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    @Benchmark
+    public ServerResponse createResponse() {
+        return builder.createResponseMono(request, MediaType.APPLICATION_XML, wrapper).block();
+    }
+
+    @Benchmark
+    public ServerResponse createErrorResponse() {
+        return builder.error(Mono.just(new ResourceNotFoundException("Resource Not Found")), request).block();
+    }
+
+    @Benchmark
+    public Integer writeResponse() {
+        return write(builder.createResponseMono(request, MediaType.APPLICATION_XML, wrapper));
+    }
+
+    @Benchmark
+    public Integer writeResponseFromStoredBytes() {
+        return write(builder.createResponseMono(request, MediaType.APPLICATION_XML, bytesWrapper));
+    }
+
+    // the response as built before the payload value was written as bytes, for comparison
+    @Benchmark
+    public Integer writeResponseFromValue() {
+        return write(ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_XML)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noCache())
+                .body(fromValue(wrapper.getPayload().getValue())));
+    }
+
+    private static Integer write(Mono<ServerResponse> responseMono) {
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/cache"));
+        return responseMono
+                .flatMap(response -> response.writeTo(exchange, CONTEXT))
+                .then(Mono.defer(() -> DataBufferUtils.join(exchange.getResponse().getBody())))
+                .map(buffer -> {
+                    final int size = buffer.readableByteCount();
+                    DataBufferUtils.release(buffer);
+                    return size;
+                })
+                .block();
+    }
+}
@@ -0,0 +1,112 @@
+package org.prebid.cache.benchmark;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.codec.StringCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.repository.redis.RedisCommandsPool;
+import org.prebid.cache.repository.redis.RedisRepositoryImpl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// Reads and writes through RedisRepositoryImpl against an in-process RESP stand-in from several threads, with
+// commands spread across a growing amount of pooled connections. Throughput scales with connections only as far
+// as there are cores for the client's and the stand-in's event loops.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class RedisRepositoryBenchmark {
+
+    private static final String STORED_ID = "prebid_2be04ba5-8f9b-4a1e-8100-d573c40312f8";
+
+    @Param({"1", "4"})
+    private int connections;
+
+    @Param({"10240"})
+    private int payloadSize;
+
+    private RedisStandIn standIn;
+
+    private RedisClient client;
+
+    private RedisCommandsPool commandsPool;
+
+    private RedisRepositoryImpl repository;
+
+    private PayloadWrapper wrapper;
+
+    private ByteBuffer storedValue;
+
+    @Setup
+    public void setUp() throws InterruptedException {
+        standIn = new RedisStandIn(Runtime.getRuntime().availableProcessors());
+        client = RedisClient.create(RedisURI.Builder.redis("localhost", standIn.port()).build());
+        commandsPool = RedisCommandsPool.connect(client, connections);
+
+        final PayloadWrapperCodec codec = new PayloadWrapperCodec(PayloadWrapperCodec.Format.BINARY);
+        repository = new RedisRepositoryImpl(commandsPool, codec);
+        wrapper = PayloadWrapper.builder()
+                .id("2be04ba5-8f9b-4a1e-8100-d573c40312f8")
+                .prefix("prebid_")
+                .payload(Payload.of("xml", null, BenchmarkPayloads.vast(payloadSize)))
+                .expiry(300L)
+                .build();
+        repository.save(wrapper).block();
+        storedValue = ByteBuffer.wrap(codec.encode(wrapper).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TearDown
+    public void tearDown() {
+        commandsPool.close();
+        client.shutdown();
+        standIn.close();
+    }
+
+    @Benchmark
+    public PayloadWrapper findById() {
+        return repository.findById(STORED_ID).block();
+    }
+
+    @Benchmark
+    public PayloadWrapper save() {
+        return repository.save(wrapper).block();
+    }
+
+    // values stay on Lettuce's StringCodec, which decodes straight from the received buffer, as reading them as
+    // byte arrays first costs an extra copy
+    @Benchmark
+    @Threads(1)
+    public String decodeWithStringCodec() {
+        return StringCodec.UTF8.decodeValue(storedValue.duplicate());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String decodeBytes() {
+        final ByteBuffer value = storedValue.duplicate();
+        final byte[] bytes = new byte[value.remaining()];
+        value.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
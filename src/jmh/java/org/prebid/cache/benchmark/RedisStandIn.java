@@ -0,0 +1,154 @@
+package org.prebid.cache.benchmark;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// answers the few RESP2 commands the repository sends from memory over loopback, so that Redis benchmarks measure
+// the client side without needing a Redis server
+class RedisStandIn implements AutoCloseable {
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final Map<String, byte[]> entries = new ConcurrentHashMap<>();
+    private final EventLoopGroup group;
+    private final Channel channel;
+
+    RedisStandIn(int threads) throws InterruptedException {
+        group = new NioEventLoopGroup(threads);
+        channel = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<SocketChannel>() {
+                    @Override
+                    protected void initChannel(SocketChannel channel) {
+                        channel.pipeline().addLast(new CommandDecoder(), new CommandHandler());
+                    }
+                })
+                .bind("localhost", 0)
+                .sync()
+                .channel();
+    }
+
+    int port() {
+        return ((InetSocketAddress) channel.localAddress()).getPort();
+    }
+
+    @Override
+    public void close() {
+        channel.close().syncUninterruptibly();
+        group.shutdownGracefully().syncUninterruptibly();
+    }
+
+    private static class CommandDecoder extends ByteToMessageDecoder {
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+            while (in.isReadable()) {
+                in.markReaderIndex();
+                final List<byte[]> command = readCommand(in);
+                if (command == null) {
+                    in.resetReaderIndex();
+                    return;
+                }
+                out.add(command);
+            }
+        }
+
+        private static List<byte[]> readCommand(ByteBuf in) {
+            final long size = readNumber(in, '*');
+            if (size < 0) {
+                return null;
+            }
+
+            final List<byte[]> arguments = new ArrayList<>((int) size);
+            for (int i = 0; i < size; i++) {
+                final long length = readNumber(in, '$');
+                if (length < 0 || in.readableBytes() < length + CRLF.length) {
+                    return null;
+                }
+
+                final byte[] argument = new byte[(int) length];
+                in.readBytes(argument).skipBytes(CRLF.length);
+                arguments.add(argument);
+            }
+            return arguments;
+        }
+
+        private static long readNumber(ByteBuf in, char type) {
+            final int end = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\n');
+            if (end < 0 || in.readByte() != type) {
+                return -1;
+            }
+
+            final String number = in.readCharSequence(end - 1 - in.readerIndex(), StandardCharsets.US_ASCII)
+                    .toString();
+            in.skipBytes(CRLF.length);
+            return Long.parseLong(number);
+        }
+    }
+
+    private class CommandHandler extends SimpleChannelInboundHandler<List<byte[]>> {
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, List<byte[]> command) {
+            final ByteBuf reply = ctx.alloc().buffer();
+            final String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase();
+            switch (name) {
+                case "SETEX" -> {
+                    entries.put(key(command, 1), command.get(3));
+                    writeSimple(reply, "+OK");
+                }
+                case "GET" -> writeBulk(reply, entries.get(key(command, 1)));
+                case "MGET" -> {
+                    writeSimple(reply, "*" + (command.size() - 1));
+                    for (int i = 1; i < command.size(); i++) {
+                        writeBulk(reply, entries.get(key(command, i)));
+                    }
+                }
+                case "HELLO" -> writeSimple(reply, "-ERR unknown command 'HELLO'");
+                case "PING" -> writeSimple(reply, "+PONG");
+                default -> writeSimple(reply, "+OK");
+            }
+            ctx.write(reply);
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            ctx.flush();
+        }
+
+        private static String key(List<byte[]> command, int index) {
+            return new String(command.get(index), StandardCharsets.UTF_8);
+        }
+
+        private static void writeSimple(ByteBuf reply, String value) {
+            reply.writeCharSequence(value, StandardCharsets.US_ASCII);
+            reply.writeBytes(CRLF);
+        }
+
+        private static void writeBulk(ByteBuf reply, byte[] value) {
+            if (value == null) {
+                writeSimple(reply, "$-1");
+                return;
+            }
+            writeSimple(reply, "$" + value.length);
+            reply.writeBytes(value).writeBytes(CRLF);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.prebid.cache.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.prebid.cache.helpers.UUIDGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+// thread counts other than 1, 4 and all cores can be set with -t
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UUIDGeneratorBenchmark {
+
+    @Param({"SECURE_RANDOM", "THREAD_LOCAL_RANDOM", "TIME_ORDERED"})
+    private UUIDGenerator generator;
+
+    @Benchmark
+    @Threads(1)
+    public String generateSingleThread() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateFourThreads() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String generateAllCores() {
+        return generator.generate();
+    }
+}
@@ -2,23 +2,29 @@ package org.prebid.cache.builders;
 
 import com.google.common.net.HttpHeaders;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.prebid.cache.helpers.PayloadCompression;
 import org.prebid.cache.model.ErrorResponse;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.model.ResponseObject;
 import org.prebid.cache.translators.ThrowableTranslator;
 import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.List;
-import java.util.function.Predicate;
 
 import static org.springframework.web.reactive.function.BodyInserters.fromValue;
 import static org.springframework.web.reactive.function.server.ServerResponse.status;
@@ -31,10 +37,25 @@ public class PrebidServerResponseBuilder {
     private static final String HEADER_CONNECTION_KEEPALIVE = "keep-alive";
     private static final String HEADER_CONNECTION_CLOSE = "close";
 
+    private static final String CACHE_CONTROL_NO_CACHE = CacheControl.noCache().getHeaderValue();
+
+    private static volatile FormattedDate date = FormattedDate.of(0L, null);
+
     public Mono<ServerResponse> createResponseMono(final ServerRequest request,
                                                    final MediaType mediaType,
                                                    final PayloadWrapper wrapper) {
-        return ok(request, mediaType).body(fromValue(wrapper.getPayload().getValue()));
+        final byte[] gzippedValue = wrapper.getGzippedValue();
+        if (gzippedValue == null) {
+            return ok(request, mediaType).body(fromBytes(valueBytes(wrapper)));
+        }
+
+        // entries stored compressed are sent as is to clients accepting gzip and inflated only for the others
+        if (PayloadCompression.acceptsGzip(request.headers().header(HttpHeaders.ACCEPT_ENCODING))) {
+            return ok(request, mediaType)
+                    .header(HttpHeaders.CONTENT_ENCODING, PayloadCompression.GZIP)
+                    .body(fromBytes(gzippedValue));
+        }
+        return ok(request, mediaType).body(fromBytes(PayloadCompression.gunzip(gzippedValue)));
     }
 
     public Mono<ServerResponse> createResponseMono(final ServerRequest request,
@@ -43,15 +64,23 @@ public class PrebidServerResponseBuilder {
         return ok(request, mediaType).body(fromValue(response));
     }
 
+    // values read from storage as bytes are written as they are, without being decoded to a string first
+    private static byte[] valueBytes(final PayloadWrapper wrapper) {
+        final byte[] valueBytes = wrapper.getValueBytes();
+        return valueBytes != null ? valueBytes : wrapper.getPayload().getValue().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Stored creatives are written as their UTF-8 bytes wrapped in a single buffer of the server's buffer factory,
+    // bypassing message writer lookup and the char-by-char CharSequenceEncoder for every response.
+    private static BodyInserter<byte[], ReactiveHttpOutputMessage> fromBytes(final byte[] bytes) {
+        return (outputMessage, context) -> {
+            outputMessage.getHeaders().setContentLength(bytes.length);
+            return outputMessage.writeWith(Mono.fromSupplier(() -> outputMessage.bufferFactory().wrap(bytes)));
+        };
+    }
+
     private ServerResponse.BodyBuilder ok(final ServerRequest request, final MediaType mediaType) {
-        final String now = ZonedDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME);
-        ServerResponse.BodyBuilder builder = ServerResponse.ok()
-                                                     .contentType(mediaType)
-                                                     .header(HttpHeaders.DATE, now)
-                                                     .varyBy(HttpHeaders.ACCEPT_ENCODING)
-                                                     .cacheControl(CacheControl.noCache());
-        applyHeaders(builder, request);
-        return builder;
+        return addHeaders(ServerResponse.ok().contentType(mediaType), request);
     }
 
     public <T extends Throwable> Mono<ServerResponse> error(final Mono<T> monoError,
@@ -73,14 +102,26 @@ public class PrebidServerResponseBuilder {
 
     private static ServerResponse.BodyBuilder addHeaders(final ServerResponse.BodyBuilder builder,
                                                          final ServerRequest request) {
-        ServerResponse.BodyBuilder headers =
-                builder.header(HttpHeaders.DATE, ZonedDateTime.now().format(DateTimeFormatter.RFC_1123_DATE_TIME))
-                        .varyBy(HttpHeaders.ACCEPT_ENCODING)
-                        .cacheControl(CacheControl.noCache());
+        final ServerResponse.BodyBuilder headers = builder
+                .header(HttpHeaders.DATE, currentDate())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_NO_CACHE);
 
         return applyHeaders(headers, request);
     }
 
+    // the Date header has a resolution of one second, so it is formatted at most once per second
+    private static String currentDate() {
+        final long epochSecond = System.currentTimeMillis() / 1000;
+        FormattedDate current = date;
+        if (current.getEpochSecond() != epochSecond) {
+            current = FormattedDate.of(epochSecond, DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                    ZonedDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC)));
+            date = current;
+        }
+        return current.getValue();
+    }
+
     private static ServerResponse.BodyBuilder applyHeaders(final ServerResponse.BodyBuilder builder,
                                                            final ServerRequest request) {
 
@@ -95,9 +136,21 @@ public class PrebidServerResponseBuilder {
     }
 
     private static boolean hasConnectionValue(List<String> connectionHeaders, String value) {
-        return !connectionHeaders.isEmpty() && connectionHeaders.stream()
-                                                       .map(String::toLowerCase)
-                                                       .allMatch(Predicate.isEqual(value));
+        if (connectionHeaders.isEmpty()) {
+            return false;
+        }
+        for (String connectionHeader : connectionHeaders) {
+            if (!value.equalsIgnoreCase(connectionHeader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Value(staticConstructor = "of")
+    private static class FormattedDate {
+        long epochSecond;
+        String value;
     }
 
 }
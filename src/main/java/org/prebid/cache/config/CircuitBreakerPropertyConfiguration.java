@@ -1,5 +1,7 @@
 package org.prebid.cache.config;
 
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
@@ -19,13 +21,13 @@ import java.time.Duration;
 @ConfigurationProperties(prefix = "circuitbreaker")
 public class CircuitBreakerPropertyConfiguration {
 
-    private static final String WEB_CLIENT_CIRCUIT_BREAKER_NAME = "prebid-cache-web-client-circuit-breaker";
     private static final String REPOSITORY_CIRCUIT_BREAKER_NAME = "prebid-cache-repository-circuit-breaker";
 
     private int failureRateThreshold;
     private long openStateDuration;
     private int closedStateCallsNumber;
     private int halfOpenStateCallsNumber;
+    private int hostMaxConcurrentCalls;
 
     @Bean
     CircuitBreakerConfig config() {
@@ -44,8 +46,11 @@ public class CircuitBreakerPropertyConfiguration {
     }
 
     @Bean
-    CircuitBreaker webClientCircuitBreaker() {
-        return registry().circuitBreaker(WEB_CLIENT_CIRCUIT_BREAKER_NAME, config());
+    BulkheadRegistry bulkheadRegistry() {
+        return BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(getHostMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
     }
 
     @Bean
@@ -0,0 +1,17 @@
+package org.prebid.cache.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "cache.compression")
+public class CompressionConfig {
+    private boolean enabled;
+    private int minSizeBytes;
+}
@@ -0,0 +1,18 @@
+package org.prebid.cache.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "cache.dedup")
+public class DeduplicationConfig {
+    private boolean enabled;
+    private int minSizeBytes;
+    private long maxTrackedContents;
+}
@@ -0,0 +1,53 @@
+package org.prebid.cache.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientConfig {
+
+    private static final String CONNECTION_PROVIDER_NAME = "prebid-cache";
+
+    private int maxConnections;
+    private int pendingAcquireMaxCount;
+    private long pendingAcquireTimeoutMs;
+    private long maxIdleTimeMs;
+    private long maxLifeTimeMs;
+    private long evictInBackgroundMs;
+    private List<HttpProtocol> protocols;
+
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider connectionProvider() {
+        return ConnectionProvider.builder(CONNECTION_PROVIDER_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictInBackgroundMs))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    HttpClient httpClient(ConnectionProvider connectionProvider) {
+        final HttpClient httpClient = HttpClient.create(connectionProvider);
+        return protocols == null || protocols.isEmpty()
+                ? httpClient
+                : httpClient.protocol(protocols.toArray(HttpProtocol[]::new));
+    }
+}
@@ -0,0 +1,18 @@
+package org.prebid.cache.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "cache.proxy-cache")
+public class ProxyCacheConfig {
+    private boolean enabled;
+    private long ttlMs;
+    private long maxSizeBytes;
+}
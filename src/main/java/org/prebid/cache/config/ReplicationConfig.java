@@ -0,0 +1,20 @@
+package org.prebid.cache.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "cache.replication")
+public class ReplicationConfig {
+    private int batchSize;
+    private long flushIntervalMs;
+    private int queueCapacity;
+    private String spillDir;
+    private long replayIntervalSec;
+}
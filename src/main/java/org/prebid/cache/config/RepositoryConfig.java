@@ -4,17 +4,25 @@ import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.async.EventLoops;
 import com.aerospike.client.policy.Policy;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.lettuce.core.api.reactive.RedisStringReactiveCommands;
 import org.apache.ignite.client.ClientCache;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
+import org.prebid.cache.metrics.MetricsRecorder;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.repository.CacheConfig;
 import org.prebid.cache.repository.CircuitBreakerSecuredReactiveRepository;
+import org.prebid.cache.repository.CoalescingReactiveRepository;
+import org.prebid.cache.repository.DeduplicatingReactiveRepository;
+import org.prebid.cache.repository.MissCachingReactiveRepository;
+import org.prebid.cache.repository.NearCacheReactiveRepository;
 import org.prebid.cache.repository.ReactiveRepository;
 import org.prebid.cache.repository.TimeOutCapableReactiveRepository;
 import org.prebid.cache.repository.aerospike.AerospikePropertyConfiguration;
 import org.prebid.cache.repository.aerospike.AerospikeRepositoryImpl;
 import org.prebid.cache.repository.ignite.IgniteRepositoryImpl;
+import org.prebid.cache.repository.redis.RedisClientSideCache;
+import org.prebid.cache.repository.redis.RedisCommandsPool;
 import org.prebid.cache.repository.redis.RedisRepositoryImpl;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -25,12 +33,41 @@ import java.time.Duration;
 @Configuration
 public class RepositoryConfig {
 
+    @Bean
+    PayloadWrapperCodec payloadWrapperCodec(CacheConfig config,
+                                            CompressionConfig compressionConfig,
+                                            DeduplicationConfig deduplicationConfig,
+                                            ObjectProvider<AerospikePropertyConfiguration> aerospikeConfiguration) {
+
+        // content references can only be stored in the binary format
+        if (deduplicationConfig.isEnabled() && config.getStorageFormat() != PayloadWrapperCodec.Format.BINARY) {
+            throw new IllegalArgumentException("Deduplication requires the binary storage format");
+        }
+        // gzipped values can only be stored in the binary format
+        if (compressionConfig.isEnabled() && config.getStorageFormat() != PayloadWrapperCodec.Format.BINARY) {
+            throw new IllegalArgumentException("Compression requires the binary storage format");
+        }
+        // content records must be stored again to extend their lifetime, which CREATE_ONLY writes don't allow
+        final AerospikePropertyConfiguration aerospike = aerospikeConfiguration.getIfAvailable();
+        if (deduplicationConfig.isEnabled() && aerospike != null && aerospike.isPreventUUIDDuplication()) {
+            throw new IllegalArgumentException("Deduplication can't be combined with Aerospike UUID duplication "
+                    + "prevention");
+        }
+
+        return new PayloadWrapperCodec(config.getStorageFormat(), compressionConfig.isEnabled()
+                ? compressionConfig.getMinSizeBytes()
+                : PayloadWrapperCodec.NO_COMPRESSION);
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "spring.redis", name = {"timeout"})
     ReactiveRepository<PayloadWrapper, String> redisRepository(
-            RedisStringReactiveCommands<String, String> redisReactiveCommands) {
+            RedisCommandsPool redisCommandsPool,
+            PayloadWrapperCodec payloadWrapperCodec,
+            ObjectProvider<RedisClientSideCache> redisClientSideCache) {
 
-        return new RedisRepositoryImpl(redisReactiveCommands);
+        return new RedisRepositoryImpl(
+                redisCommandsPool, payloadWrapperCodec, redisClientSideCache.getIfAvailable());
     }
 
     @Bean
@@ -38,15 +75,18 @@ public class RepositoryConfig {
     ReactiveRepository<PayloadWrapper, String> aerospikeRepository(AerospikePropertyConfiguration configuration,
                                                                    AerospikeClient client,
                                                                    EventLoops eventLoops,
-                                                                   Policy policy) {
+                                                                   Policy policy,
+                                                                   PayloadWrapperCodec payloadWrapperCodec) {
 
-        return new AerospikeRepositoryImpl(configuration, client, eventLoops, policy);
+        return new AerospikeRepositoryImpl(configuration, client, eventLoops, policy, payloadWrapperCodec);
     }
 
     @Bean
     @ConditionalOnProperty(prefix = "spring.ignite", name = {"host"})
-    ReactiveRepository<PayloadWrapper, String> igniteRepository(ClientCache<String, String> igniteCache) {
-        return new IgniteRepositoryImpl(igniteCache);
+    ReactiveRepository<PayloadWrapper, String> igniteRepository(ClientCache<String, String> igniteCache,
+                                                                PayloadWrapperCodec payloadWrapperCodec) {
+
+        return new IgniteRepositoryImpl(igniteCache, payloadWrapperCodec);
     }
 
     @Bean
@@ -54,11 +94,39 @@ public class RepositoryConfig {
     ReactiveRepository<PayloadWrapper, String> circuitBreakerSecuredRepository(
             ReactiveRepository<PayloadWrapper, String> repository,
             CircuitBreaker repositoryCircuitBreaker,
-            CacheConfig config) {
+            CacheConfig config,
+            NearCacheConfig nearCacheConfig,
+            DeduplicationConfig deduplicationConfig,
+            MissCacheConfig missCacheConfig,
+            MetricsRecorder metricsRecorder) {
 
         final var timeoutDecorator = new TimeOutCapableReactiveRepository<>(
                 repository, Duration.ofMillis(config.getTimeoutMs()));
+        final var circuitBreakerDecorator = new CircuitBreakerSecuredReactiveRepository<>(
+                timeoutDecorator, repositoryCircuitBreaker);
+        final var coalescingDecorator = new CoalescingReactiveRepository<>(circuitBreakerDecorator, metricsRecorder);
+        final ReactiveRepository<PayloadWrapper, String> deduplicatingDecorator = deduplicationConfig.isEnabled()
+                ? new DeduplicatingReactiveRepository(
+                        coalescingDecorator,
+                        deduplicationConfig.getMinSizeBytes(),
+                        config.getMaxExpiry(),
+                        deduplicationConfig.getMaxTrackedContents(),
+                        metricsRecorder)
+                : coalescingDecorator;
+        final ReactiveRepository<PayloadWrapper, String> missCachingDecorator = missCacheConfig.isEnabled()
+                ? new MissCachingReactiveRepository(
+                        deduplicatingDecorator,
+                        Duration.ofMillis(missCacheConfig.getTtlMs()),
+                        missCacheConfig.getMaxSize(),
+                        metricsRecorder)
+                : deduplicatingDecorator;
 
-        return new CircuitBreakerSecuredReactiveRepository<>(timeoutDecorator, repositoryCircuitBreaker);
+        return nearCacheConfig.isEnabled()
+                ? new NearCacheReactiveRepository(
+                        missCachingDecorator,
+                        Duration.ofSeconds(nearCacheConfig.getMaxTtlSec()),
+                        nearCacheConfig.getMaxSizeBytes(),
+                        metricsRecorder)
+                : missCachingDecorator;
     }
 }
@@ -0,0 +1,19 @@
+package org.prebid.cache.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Configuration
+@ConfigurationProperties(prefix = "cache.written-id-filter")
+public class WrittenIdFilterConfig {
+    private boolean enabled;
+    private int slices;
+    private long expectedInsertionsPerSlice;
+    private double falsePositiveRate;
+}
@@ -3,6 +3,7 @@ package org.prebid.cache.handlers;
 import lombok.extern.slf4j.Slf4j;
 import org.prebid.cache.builders.PrebidServerResponseBuilder;
 import org.prebid.cache.exceptions.BadRequestException;
+import org.prebid.cache.exceptions.InvalidUUIDException;
 import org.prebid.cache.exceptions.ResourceNotFoundException;
 import org.prebid.cache.metrics.MetricsRecorder;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +19,8 @@ public class ErrorHandler extends MetricsHandler {
     private static final String RESOURCE_NOT_FOUND = "Resource Not Found: uuid %s";
     private static final String INVALID_PARAMETERS = "Invalid Parameter(s): uuid not found or is empty.";
     private static final String NO_ELEMENTS_FOUND = "No Elements Found.";
+    private static final String TOO_MANY_IDS = "Invalid Parameter(s): uuids exceeds the limit of %d.";
+    private static final String INVALID_UUID = "Invalid UUID: [%s].";
 
     @Autowired
     public ErrorHandler(final MetricsRecorder metricsRecorder, final PrebidServerResponseBuilder builder) {
@@ -37,6 +40,14 @@ public class ErrorHandler extends MetricsHandler {
         return Mono.error(new BadRequestException(NO_ELEMENTS_FOUND));
     }
 
+    public static Mono<ServerResponse> createTooManyIds(int limit) {
+        return Mono.error(new BadRequestException(String.format(TOO_MANY_IDS, limit)));
+    }
+
+    public static Mono<ServerResponse> createInvalidUUID(String uuid) {
+        return Mono.error(new InvalidUUIDException(String.format(INVALID_UUID, uuid)));
+    }
+
     public Mono<ServerResponse> invalidRequest(final ServerRequest request) {
         metricsRecorder.getInvalidRequestMeter().increment();
         return builder.error(Mono.just(new ResourceNotFoundException(RESOURCE_NOT_FOUND_BAD_URL)), request);
@@ -30,6 +30,7 @@ public abstract class CacheHandler extends MetricsHandler {
     private static final int UNKNOWN_SIZE_VALUE = 1;
     ServiceType type;
     static final String ID_KEY = "uuid";
+    static final String IDS_KEY = "uuids";
     static final String CACHE_HOST_KEY = "ch";
     private static final String UUID_DUPLICATION = "UUID duplication.";
 
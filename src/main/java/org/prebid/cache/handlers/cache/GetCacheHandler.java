@@ -1,8 +1,7 @@
 package org.prebid.cache.handlers.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import com.google.common.collect.ImmutableMap;
 import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -13,15 +12,23 @@ import org.prebid.cache.exceptions.UnsupportedMediaTypeException;
 import org.prebid.cache.handlers.ErrorHandler;
 import org.prebid.cache.handlers.PayloadType;
 import org.prebid.cache.handlers.ServiceType;
+import org.prebid.cache.helpers.PayloadCompression;
+import org.prebid.cache.helpers.RandomUUID;
 import org.prebid.cache.metrics.MeasurementTag;
 import org.prebid.cache.metrics.MetricsRecorder;
 import org.prebid.cache.metrics.MetricsRecorder.MetricsRecorderTimer;
 import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.model.ProxyResponse;
+import org.prebid.cache.model.ResponseObject;
 import org.prebid.cache.repository.CacheConfig;
 import org.prebid.cache.repository.ReactiveRepository;
 import org.prebid.cache.routers.ApiConfig;
+import org.prebid.cache.service.HostResilienceRegistry;
+import org.prebid.cache.service.ProxyResponseCache;
+import org.prebid.cache.service.WrittenIdFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
@@ -30,11 +37,14 @@ import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 import reactor.netty.http.client.HttpClient;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -45,9 +55,22 @@ public class GetCacheHandler extends CacheHandler {
     private final ReactiveRepository<PayloadWrapper, String> repository;
     private final CacheConfig config;
     private final ApiConfig apiConfig;
-    private final CircuitBreaker circuitBreaker;
+    private final HostResilienceRegistry hostResilienceRegistry;
+    private final HttpClient httpClient;
+    private final ProxyResponseCache proxyResponseCache;
+    private final WrittenIdFilter writtenIdFilter;
     private final Map<String, WebClient> clientsCache;
     private static final String UNSUPPORTED_MEDIATYPE = "Unsupported Media Type.";
+    private static final String UUID_KEY = "uuid";
+    private static final String TYPE_KEY = "type";
+    private static final String VALUE_KEY = "value";
+
+    // proxied fetches are shared by concurrent callers and their responses are replayed to later ones, so only
+    // headers that carry no caller identity are forwarded and only end-to-end content headers are kept
+    private static final List<String> PROXIED_REQUEST_HEADERS = List.of(
+            HttpHeaders.ACCEPT, HttpHeaders.CONTENT_TYPE);
+    private static final List<String> PROXIED_RESPONSE_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.CACHE_CONTROL, HttpHeaders.EXPIRES);
 
     @Autowired
     public GetCacheHandler(final ReactiveRepository<PayloadWrapper, String> repository,
@@ -55,7 +78,10 @@ public class GetCacheHandler extends CacheHandler {
                            final ApiConfig apiConfig,
                            final MetricsRecorder metricsRecorder,
                            final PrebidServerResponseBuilder builder,
-                           final CircuitBreaker webClientCircuitBreaker,
+                           final HostResilienceRegistry hostResilienceRegistry,
+                           final HttpClient httpClient,
+                           final ProxyResponseCache proxyResponseCache,
+                           final WrittenIdFilter writtenIdFilter,
                            @Value("${sampling.rate:0.01}") final Double samplingRate) {
 
         super(samplingRate);
@@ -66,7 +92,10 @@ public class GetCacheHandler extends CacheHandler {
         this.apiConfig = apiConfig;
         this.builder = builder;
         this.metricTagPrefix = "read";
-        this.circuitBreaker = webClientCircuitBreaker;
+        this.hostResilienceRegistry = hostResilienceRegistry;
+        this.httpClient = httpClient;
+        this.proxyResponseCache = proxyResponseCache;
+        this.writtenIdFilter = writtenIdFilter;
         this.clientsCache = createClientsCache(config.getClientsCacheDuration(), config.getClientsCacheSize());
     }
 
@@ -82,6 +111,11 @@ public class GetCacheHandler extends CacheHandler {
         metricsRecorder.markMeterForTag(metricTagPrefix, MeasurementTag.REQUEST);
         final var timerContext = metricsRecorder.createRequestTimerForServiceType(type);
 
+        final var ids = request.queryParam(IDS_KEY).filter(StringUtils::isNotBlank);
+        if (ids.isPresent()) {
+            return fetchAll(request, ids.get(), timerContext);
+        }
+
         return request.queryParam(ID_KEY)
                 .filter(StringUtils::isNotBlank)
                 .map(id -> fetch(request, id, timerContext))
@@ -95,6 +129,10 @@ public class GetCacheHandler extends CacheHandler {
                                        final String id,
                                        final MetricsRecorderTimer timerContext) {
 
+        if (!RandomUUID.isValidUUID(id, config.getMaxUuidLength())) {
+            return finalizeResult(ErrorHandler.createInvalidUUID(id), request, timerContext);
+        }
+
         final var cacheUrl = resolveCacheUrl(request);
 
         final var responseMono =
@@ -105,6 +143,32 @@ public class GetCacheHandler extends CacheHandler {
         return finalizeResult(responseMono, request, timerContext);
     }
 
+    private Mono<ServerResponse> fetchAll(final ServerRequest request,
+                                          final String idsParam,
+                                          final MetricsRecorderTimer timerContext) {
+
+        final List<String> ids = Arrays.stream(StringUtils.split(idsParam, ','))
+                .map(String::trim)
+                .filter(StringUtils::isNotEmpty)
+                .distinct()
+                .toList();
+
+        final var invalidId = ids.stream()
+                .filter(id -> !RandomUUID.isValidUUID(id, config.getMaxUuidLength()))
+                .findFirst();
+
+        final Mono<ServerResponse> responseMono;
+        if (ids.size() > config.getMaxBatchFetchSize()) {
+            responseMono = ErrorHandler.createTooManyIds(config.getMaxBatchFetchSize());
+        } else if (invalidId.isPresent()) {
+            responseMono = ErrorHandler.createInvalidUUID(invalidId.get());
+        } else {
+            responseMono = processBatchRequest(request, ids);
+        }
+
+        return finalizeResult(responseMono, request, timerContext);
+    }
+
     private String resolveCacheUrl(final ServerRequest request) {
         final var cacheHostParam = request.queryParam(CACHE_HOST_KEY).orElse(null);
         if (StringUtils.isNotBlank(cacheHostParam)) {
@@ -124,15 +188,19 @@ public class GetCacheHandler extends CacheHandler {
 
         final WebClient webClient = clientsCache.computeIfAbsent(cacheUrl, this::createWebClient);
 
-        return webClient.get()
-                .uri(uriBuilder -> uriBuilder.queryParam(ID_KEY, idKeyParam).build())
-                .headers(httpHeaders -> httpHeaders.addAll(request.headers().asHttpHeaders()))
-                .exchangeToMono(clientResponse -> {
-                    updateProxyMetrics(clientResponse);
-                    return fromClientResponse(clientResponse);
-                })
-                .transform(CircuitBreakerOperator.of(circuitBreaker))
-                .timeout(Duration.ofMillis(config.getTimeoutMs()))
+        final String proxyCacheKey = cacheUrl + '?' + ID_KEY + '=' + idKeyParam;
+
+        return proxyResponseCache.get(proxyCacheKey, () -> webClient.get()
+                        .uri(uriBuilder -> uriBuilder.queryParam(ID_KEY, idKeyParam).build())
+                        .headers(httpHeaders -> copyHeaders(request.headers().asHttpHeaders(), httpHeaders,
+                                PROXIED_REQUEST_HEADERS))
+                        .exchangeToMono(clientResponse -> {
+                            updateProxyMetrics(clientResponse);
+                            return fromClientResponse(clientResponse);
+                        })
+                        .transform(hostResilienceRegistry.guard(cacheUrl))
+                        .timeout(Duration.ofMillis(config.getTimeoutMs())))
+                .flatMap(GetCacheHandler::toServerResponse)
                 .subscribeOn(Schedulers.parallel())
                 .doOnError(error -> {
                     metricsRecorder.getProxyFailure().increment();
@@ -142,13 +210,13 @@ public class GetCacheHandler extends CacheHandler {
     }
 
     private WebClient createWebClient(String cacheUrl) {
-        HttpClient httpClient = HttpClient.create()
+        final HttpClient proxyHttpClient = httpClient
                 .responseTimeout(Duration.ofMillis(config.getTimeoutMs()))
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getTimeoutMs());
 
         return WebClient.builder()
                 .baseUrl(cacheUrl)
-                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .clientConnector(new ReactorClientHttpConnector(proxyHttpClient))
                 .build();
     }
 
@@ -160,17 +228,44 @@ public class GetCacheHandler extends CacheHandler {
         }
     }
 
-    private static Mono<ServerResponse> fromClientResponse(final ClientResponse clientResponse) {
+    private static Mono<ProxyResponse> fromClientResponse(final ClientResponse clientResponse) {
         // This is a workaround to handle the race condition when the response body is consumed
         // https://github.com/spring-projects/spring-boot/issues/15320
         return clientResponse.bodyToMono(String.class)
-                .flatMap(body -> ServerResponse.status(clientResponse.statusCode())
-                        .headers(headers -> clientResponse.headers().asHttpHeaders().forEach(headers::addAll))
-                        .body(Mono.just(body), String.class));
+                .map(body -> ProxyResponse.of(
+                        clientResponse.statusCode(),
+                        copyHeaders(clientResponse.headers().asHttpHeaders()),
+                        body));
+    }
+
+    private static HttpHeaders copyHeaders(final HttpHeaders headers) {
+        final HttpHeaders copy = new HttpHeaders();
+        copyHeaders(headers, copy, PROXIED_RESPONSE_HEADERS);
+        return HttpHeaders.readOnlyHttpHeaders(copy);
+    }
+
+    private static void copyHeaders(final HttpHeaders from, final HttpHeaders to, final List<String> names) {
+        for (String name : names) {
+            final List<String> values = from.get(name);
+            if (values != null) {
+                to.addAll(name, values);
+            }
+        }
+    }
+
+    private static Mono<ServerResponse> toServerResponse(final ProxyResponse proxyResponse) {
+        return ServerResponse.status(proxyResponse.getStatus())
+                .headers(headers -> proxyResponse.getHeaders().forEach(headers::addAll))
+                .body(Mono.just(proxyResponse.getBody()), String.class);
     }
 
     private Mono<ServerResponse> processRequest(final ServerRequest request, final String keyIdParam) {
         final var normalizedId = String.format("%s%s", config.getPrefix(), keyIdParam);
+        if (!writtenIdFilter.mightContain(normalizedId)) {
+            metricsRecorder.getFilteredRead().increment();
+            return ErrorHandler.createResourceNotFound(normalizedId);
+        }
+
         return repository.findById(normalizedId)
                 .subscribeOn(Schedulers.parallel())
                 .transform(this::validateErrorResult)
@@ -178,6 +273,48 @@ public class GetCacheHandler extends CacheHandler {
                 .switchIfEmpty(ErrorHandler.createResourceNotFound(normalizedId));
     }
 
+    private Mono<ServerResponse> processBatchRequest(final ServerRequest request, final List<String> keyIds) {
+        final List<String> normalizedIds = keyIds.stream()
+                .map(keyId -> String.format("%s%s", config.getPrefix(), keyId))
+                .filter(this::mightBeStored)
+                .toList();
+
+        final var wrappers = normalizedIds.isEmpty()
+                ? Flux.<PayloadWrapper>empty()
+                : repository.findAllById(normalizedIds);
+
+        return wrappers
+                .subscribeOn(Schedulers.parallel())
+                .map(this::toBatchResponseEntry)
+                .collectList()
+                .transform(this::validateErrorResult)
+                .map(ResponseObject::of)
+                .flatMap(response -> builder.createResponseMono(request, MediaType.APPLICATION_JSON_UTF8, response));
+    }
+
+    private boolean mightBeStored(final String normalizedId) {
+        if (writtenIdFilter.mightContain(normalizedId)) {
+            return true;
+        }
+
+        metricsRecorder.getFilteredRead().increment();
+        return false;
+    }
+
+    private Map<String, String> toBatchResponseEntry(final PayloadWrapper storedWrapper) {
+        final PayloadWrapper wrapper = PayloadCompression.decompress(storedWrapper);
+        if (wrapper.getPayload().getType().equals(PayloadType.JSON.toString())) {
+            metricsRecorder.markMeterForTag(this.metricTagPrefix, MeasurementTag.JSON);
+        } else if (wrapper.getPayload().getType().equals(PayloadType.XML.toString())) {
+            metricsRecorder.markMeterForTag(this.metricTagPrefix, MeasurementTag.XML);
+        }
+
+        return ImmutableMap.of(
+                UUID_KEY, wrapper.getId(),
+                TYPE_KEY, wrapper.getPayload().getType(),
+                VALUE_KEY, wrapper.getPayload().getValue());
+    }
+
     private Mono<ServerResponse> createServerResponse(final PayloadWrapper wrapper, final ServerRequest request) {
         if (wrapper.getPayload().getType().equals(PayloadType.JSON.toString())) {
             metricsRecorder.markMeterForTag(this.metricTagPrefix, MeasurementTag.JSON);
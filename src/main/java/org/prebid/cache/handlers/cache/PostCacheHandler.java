@@ -2,10 +2,8 @@ package org.prebid.cache.handlers.cache;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
-import io.netty.channel.ChannelOption;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.prebid.cache.builders.PrebidServerResponseBuilder;
@@ -16,6 +14,7 @@ import org.prebid.cache.exceptions.UnauthorizedAccessException;
 import org.prebid.cache.handlers.ErrorHandler;
 import org.prebid.cache.handlers.ServiceType;
 import org.prebid.cache.helpers.RandomUUID;
+import org.prebid.cache.helpers.UUIDGenerator;
 import org.prebid.cache.metrics.MeasurementTag;
 import org.prebid.cache.metrics.MetricsRecorder;
 import org.prebid.cache.model.Payload;
@@ -26,30 +25,24 @@ import org.prebid.cache.model.ResponseObject;
 import org.prebid.cache.repository.CacheConfig;
 import org.prebid.cache.repository.ReactiveRepository;
 import org.prebid.cache.routers.ApiConfig;
+import org.prebid.cache.service.SecondaryCacheReplicator;
+import org.prebid.cache.service.WrittenIdFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.BodyExtractors;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.ParallelFlux;
 import reactor.core.publisher.SynchronousSink;
 import reactor.core.scheduler.Schedulers;
-import reactor.netty.http.client.HttpClient;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Consumer;
 import java.util.function.Function;
 
 @Component
@@ -64,17 +57,19 @@ public class PostCacheHandler extends CacheHandler {
     private final CacheConfig config;
     private final Function<PayloadWrapper, Map<String, String>> payloadWrapperToMapTransformer = payload ->
             ImmutableMap.of(UUID_KEY, payload.getId());
-    private final Map<String, WebClient> webClients = new HashMap<>();
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final CircuitBreaker circuitBreaker;
+    private final SecondaryCacheReplicator replicator;
     private final ApiConfig apiConfig;
+    private final UUIDGenerator uuidGenerator;
+    private final WrittenIdFilter writtenIdFilter;
 
     @Autowired
     public PostCacheHandler(final ReactiveRepository<PayloadWrapper, String> repository,
                             final CacheConfig config,
                             final MetricsRecorder metricsRecorder,
                             final PrebidServerResponseBuilder builder,
-                            final CircuitBreaker webClientCircuitBreaker,
+                            final SecondaryCacheReplicator replicator,
+                            final WrittenIdFilter writtenIdFilter,
                             @Value("${sampling.rate:0.01}") final Double samplingRate,
                             final ApiConfig apiConfig) {
 
@@ -83,21 +78,12 @@ public class PostCacheHandler extends CacheHandler {
         this.type = ServiceType.SAVE;
         this.repository = repository;
         this.config = config;
-        if (config.getSecondaryUris() != null) {
-            config.getSecondaryUris().forEach(url -> {
-                HttpClient httpClient = HttpClient.create()
-                        .responseTimeout(Duration.ofMillis(config.getSecondaryCacheTimeoutMs()))
-                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, config.getSecondaryCacheTimeoutMs());
-                webClients.put(url, WebClient.builder()
-                        .baseUrl(url)
-                        .clientConnector(new ReactorClientHttpConnector(httpClient))
-                        .build());
-            });
-        }
         this.builder = builder;
         this.metricTagPrefix = "write";
-        this.circuitBreaker = webClientCircuitBreaker;
+        this.replicator = replicator;
+        this.writtenIdFilter = writtenIdFilter;
         this.apiConfig = apiConfig;
+        this.uuidGenerator = ObjectUtils.defaultIfNull(config.getUuidGenerator(), UUIDGenerator.SECURE_RANDOM);
     }
 
     public Mono<ServerResponse> save(final ServerRequest request) {
@@ -129,7 +115,9 @@ public class PostCacheHandler extends CacheHandler {
                         validateUuidPermissions(payload, sink, isValidApiKey))
                 .handle(this::validateUUID)
                 .handle(this::validateExpiry)
-                .concatMap(repository::save)
+                .collectList()
+                .flatMapMany(repository::saveAll)
+                .doOnNext(payload -> writtenIdFilter.put(payload.getPrefix() + payload.getId()))
                 .subscribeOn(Schedulers.parallel())
                 .collectList()
                 .doOnNext(payloadWrappers -> sendRequestToSecondaryPrebidCacheHosts(payloadWrappers, secondaryCache))
@@ -177,7 +165,7 @@ public class PostCacheHandler extends CacheHandler {
 
     private Function<PayloadTransfer, PayloadWrapper> payloadWrapperTransformer() {
         return transfer -> PayloadWrapper.builder()
-                .id(RandomUUID.extractUUID(transfer))
+                .id(RandomUUID.extractUUID(transfer, uuidGenerator))
                 .prefix(transfer.getPrefix())
                 .payload(Payload.of(transfer.getType(), transfer.getKey(), transfer.valueAsString()))
                 .expiry(transfer.getExpiry())
@@ -186,7 +174,7 @@ public class PostCacheHandler extends CacheHandler {
     }
 
     private void validateUUID(final PayloadWrapper payload, final SynchronousSink<PayloadWrapper> sink) {
-        if (RandomUUID.isValidUUID(payload.getId())) {
+        if (RandomUUID.isValidUUID(payload.getId(), config.getMaxUuidLength())) {
             sink.next(payload);
         } else {
             sink.error(new InvalidUUIDException("Invalid UUID: [" + payload.getId() + "]."));
@@ -214,60 +202,11 @@ public class PostCacheHandler extends CacheHandler {
     }
 
     private void sendRequestToSecondaryPrebidCacheHosts(List<PayloadWrapper> payloadWrappers, String secondaryCache) {
-        if (!"yes".equals(secondaryCache) && !webClients.isEmpty()) {
-            Flux.fromIterable(payloadWrappers)
-                    .map(this::wrapperToTransfer)
-                    .collectList()
-                    .flatMapMany(this::createSecondaryCacheRequests)
-                    .subscribe();
+        if (!"yes".equals(secondaryCache) && replicator.isEnabled()) {
+            replicator.replicate(payloadWrappers);
         }
     }
 
-    private ParallelFlux<Void> createSecondaryCacheRequests(List<PayloadTransfer> payloadTransfers) {
-        return Flux.fromIterable(webClients.entrySet())
-                .parallel()
-                .runOn(Schedulers.parallel())
-                .flatMap(entry -> sendRequestToSecondaryCache(entry.getValue(), entry.getKey(), payloadTransfers));
-    }
-
-    private Mono<Void> sendRequestToSecondaryCache(WebClient webClient,
-                                                   String url,
-                                                   List<PayloadTransfer> payloadTransfers) {
-        return webClient.post()
-                .uri(uriBuilder -> uriBuilder.path(config.getSecondaryCachePath())
-                        .queryParam("secondaryCache", "yes").build())
-                .contentType(MediaType.APPLICATION_JSON)
-                .headers(enrichWithSecurityHeader())
-                .bodyValue(RequestObject.of(payloadTransfers))
-                .exchangeToMono(clientResponse -> {
-                    if (clientResponse.statusCode() != HttpStatus.OK) {
-                        metricsRecorder.getSecondaryCacheWriteError().increment();
-                        log.debug(clientResponse.statusCode().toString());
-                        log.error("Failed to write to remote address: {}", url);
-                    }
-                    return clientResponse.releaseBody();
-                })
-                .transform(CircuitBreakerOperator.of(circuitBreaker))
-                .doOnError(throwable -> {
-                    metricsRecorder.getSecondaryCacheWriteError().increment();
-                    log.error("Failed to send request: '{}', cause: '{}'",
-                            ExceptionUtils.getMessage(throwable), ExceptionUtils.getMessage(throwable));
-                })
-                .then();
-    }
-
-    private Consumer<HttpHeaders> enrichWithSecurityHeader() {
-        final String apiKey = apiConfig.getApiKey();
-        return apiKey != null
-                ? httpHeaders -> httpHeaders.set(API_KEY_HEADER, apiKey)
-                : httpHeaders -> { };
-    }
-
-    private PayloadTransfer wrapperToTransfer(final PayloadWrapper wrapper) {
-        return PayloadTransfer.builder().type(wrapper.getPayload().getType())
-                .key(wrapper.getId()).value(wrapper.getPayload().getValue()).expiry(wrapper.getExpiry()).build();
-    }
-
     private Mono<RequestObject> getRequestBodyMono(final ServerRequest request) {
         if (MediaType.TEXT_PLAIN.equals(request.headers().contentType().orElse(MediaType.APPLICATION_JSON))) {
             return request.body(BodyExtractors.toMono(String.class)).map(value -> {
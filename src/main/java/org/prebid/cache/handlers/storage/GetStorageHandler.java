@@ -5,6 +5,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.prebid.cache.builders.PrebidServerResponseBuilder;
 import org.prebid.cache.exceptions.BadRequestException;
 import org.prebid.cache.exceptions.ResourceNotFoundException;
+import org.prebid.cache.helpers.PayloadCompression;
 import org.prebid.cache.repository.redis.module.storage.ModuleCompositeRepository;
 import org.prebid.cache.routers.ApiConfig;
 import org.springframework.http.HttpStatus;
@@ -41,6 +42,7 @@ public class GetStorageHandler {
         }
 
         return moduleRepository.findById(application, key)
+                .map(PayloadCompression::decompress)
                 .flatMap(value -> ServerResponse.ok().body(fromValue(value.getPayload())))
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("Invalid application or key")))
                 .onErrorResume(error -> responseBuilder.error(Mono.just(error), request));
@@ -8,11 +8,27 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @UtilityClass
 public class Json {
+    private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
     private final Gson gson = new Gson();
 
+    // reused per thread to avoid regrowing a fresh writer buffer for every multi-KB creative
+    private final ThreadLocal<StringBuilder> buffers =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_BUFFER_SIZE));
+
     public String toJson(Object object) {
-        log.debug("{}", gson.toJson(object));
-        return gson.toJson(object);
+        final StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        gson.toJson(object, buffer);
+        final String json = buffer.toString();
+
+        if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+
+        log.debug("{}", json);
+        return json;
     }
 
     public <T> T createPayloadFromJson(final String json, Class<T> type) {
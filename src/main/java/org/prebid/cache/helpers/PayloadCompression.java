@@ -0,0 +1,89 @@
+package org.prebid.cache.helpers;
+
+import lombok.experimental.UtilityClass;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@UtilityClass
+public class PayloadCompression {
+
+    public static final String GZIP = "gzip";
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    public byte[] gzip(String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output, BUFFER_SIZE)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    public byte[] gunzip(byte[] gzipped) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped), BUFFER_SIZE)) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // restores the plain payload value of an entry stored compressed or read as bytes, for responses that need
+    // the value as a string
+    public PayloadWrapper decompress(PayloadWrapper wrapper) {
+        final byte[] gzippedValue = wrapper.getGzippedValue();
+        final byte[] valueBytes = gzippedValue != null ? gunzip(gzippedValue) : wrapper.getValueBytes();
+        if (valueBytes == null) {
+            return wrapper;
+        }
+
+        final Payload payload = wrapper.getPayload();
+        return PayloadWrapper.builder()
+                .id(wrapper.getId())
+                .prefix(wrapper.getPrefix())
+                .payload(Payload.of(payload.getType(), payload.getKey(),
+                        new String(valueBytes, StandardCharsets.UTF_8)))
+                .timestamp(wrapper.getTimestamp())
+                .expiry(wrapper.getExpiry())
+                .isExternalId(wrapper.isExternalId())
+                .build();
+    }
+
+    // only an explicit gzip coding counts, which every browser and video player sends
+    public boolean acceptsGzip(List<String> acceptEncodingHeaders) {
+        for (String header : acceptEncodingHeaders) {
+            for (String coding : header.split(",")) {
+                final String[] parameters = coding.split(";");
+                if (GZIP.equalsIgnoreCase(parameters[0].trim()) && !isRejected(parameters)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRejected(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            final String[] nameAndValue = parameters[i].split("=", 2);
+            if (nameAndValue.length == 2 && "q".equalsIgnoreCase(nameAndValue[0].trim())) {
+                try {
+                    return Double.parseDouble(nameAndValue[1].trim()) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,222 @@
+package org.prebid.cache.helpers;
+
+import lombok.RequiredArgsConstructor;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Record layout: marker, version, length-prefixed type/key/prefix/id, timestamp, expiry, then the raw value
+// appended as is, so that the value is neither escaped on write nor parsed on read. Values at least
+// compressionMinSize long are stored gzipped and Base64-encoded instead, and are read back still compressed.
+// Entries deduplicated by content hash hold the id of the shared content record in place of the value.
+// Records that do not start with the marker are legacy Gson-encoded PayloadWrapper JSON and are still readable.
+@RequiredArgsConstructor
+public class PayloadWrapperCodec {
+
+    public static final int NO_COMPRESSION = -1;
+
+    private static final char MARKER = '\u0001';
+    private static final char VERSION = '1';
+    private static final char LENGTH_DELIMITER = ':';
+    private static final char NUMBER_DELIMITER = ';';
+    private static final char NULL_FIELD = '~';
+    private static final char VALUE_PRESENT = '+';
+    private static final char GZIPPED_VALUE = 'z';
+    private static final char CONTENT_REFERENCE = 'r';
+
+    private static final int HEADER_CAPACITY = 96;
+
+    private final Format format;
+    private final int compressionMinSize;
+
+    public PayloadWrapperCodec(Format format) {
+        this(format, NO_COMPRESSION);
+    }
+
+    public String encode(PayloadWrapper wrapper) {
+        return format == Format.BINARY
+                ? encodeRecord(wrapper)
+                : Json.toJson(PayloadCompression.decompress(wrapper));
+    }
+
+    public PayloadWrapper decode(String record) {
+        return isRecord(record) ? decodeRecord(record) : Json.createPayloadFromJson(record, PayloadWrapper.class);
+    }
+
+    private static boolean isRecord(String record) {
+        return record.length() > 1 && record.charAt(0) == MARKER && record.charAt(1) == VERSION;
+    }
+
+    // the value an entry is stored gzipped with, or null when it is stored as is
+    public byte[] gzippedValue(PayloadWrapper wrapper) {
+        if (wrapper.getGzippedValue() != null) {
+            return wrapper.getGzippedValue();
+        }
+
+        return compress(value(wrapper));
+    }
+
+    private static String value(PayloadWrapper wrapper) {
+        final Payload payload = wrapper.getPayload();
+        if (payload == null) {
+            return null;
+        }
+        return wrapper.getValueBytes() != null
+                ? new String(wrapper.getValueBytes(), StandardCharsets.UTF_8)
+                : payload.getValue();
+    }
+
+    private String encodeRecord(PayloadWrapper wrapper) {
+        final Payload payload = wrapper.getPayload();
+        final String value = value(wrapper);
+        final byte[] gzippedValue = gzippedValue(wrapper);
+        final String encodedValue = gzippedValue != null ? Base64.getEncoder().encodeToString(gzippedValue) : value;
+
+        final StringBuilder builder = new StringBuilder(
+                HEADER_CAPACITY + (encodedValue != null ? encodedValue.length() : 0))
+                .append(MARKER)
+                .append(VERSION);
+        appendString(builder, payload != null ? payload.getType() : null);
+        appendString(builder, payload != null ? payload.getKey() : null);
+        appendString(builder, wrapper.getPrefix());
+        appendString(builder, wrapper.getId());
+        appendNumber(builder, wrapper.getTimestamp());
+        appendNumber(builder, wrapper.getExpiry());
+
+        if (payload == null) {
+            return builder.append(NULL_FIELD).toString();
+        }
+        builder.append(VALUE_PRESENT);
+
+        if (wrapper.getContentId() != null) {
+            return builder.append(CONTENT_REFERENCE).append(wrapper.getContentId()).toString();
+        }
+        if (encodedValue == null) {
+            return builder.toString();
+        }
+        return builder.append(gzippedValue != null ? GZIPPED_VALUE : VALUE_PRESENT).append(encodedValue).toString();
+    }
+
+    // compressed only when the Base64-encoded result is still smaller than the value itself
+    private byte[] compress(String value) {
+        if (compressionMinSize == NO_COMPRESSION || value == null || value.length() < compressionMinSize) {
+            return null;
+        }
+
+        final byte[] gzipped = PayloadCompression.gzip(value);
+        return (gzipped.length + 2) / 3 * 4 < value.length() ? gzipped : null;
+    }
+
+    private static void appendString(StringBuilder builder, String field) {
+        if (field == null) {
+            builder.append(NULL_FIELD);
+        } else {
+            builder.append(field.length()).append(LENGTH_DELIMITER).append(field);
+        }
+    }
+
+    private static void appendNumber(StringBuilder builder, Long field) {
+        if (field == null) {
+            builder.append(NULL_FIELD);
+        } else {
+            builder.append(field.longValue()).append(NUMBER_DELIMITER);
+        }
+    }
+
+    private static PayloadWrapper decodeRecord(String record) {
+        try {
+            final RecordReader reader = new RecordReader(record, 2);
+            final String type = reader.readString();
+            final String key = reader.readString();
+            final String prefix = reader.readString();
+            final String id = reader.readString();
+            final Long timestamp = reader.readNumber();
+            final Long expiry = reader.readNumber();
+
+            final PayloadWrapper.PayloadWrapperBuilder builder = PayloadWrapper.builder()
+                    .id(id)
+                    .prefix(prefix)
+                    .timestamp(timestamp)
+                    .expiry(expiry);
+
+            if (reader.readPayloadPresence()) {
+                if (reader.hasValueMarker(CONTENT_REFERENCE)) {
+                    builder.payload(Payload.of(type, key, null)).contentId(reader.readMarkedValue());
+                } else if (reader.hasValueMarker(GZIPPED_VALUE)) {
+                    builder.payload(Payload.of(type, key, null))
+                            .gzippedValue(Base64.getDecoder().decode(reader.readMarkedValue()));
+                } else {
+                    builder.payload(Payload.of(type, key, reader.readValue()));
+                }
+            }
+            return builder.build();
+        } catch (IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed payload record", e);
+        }
+    }
+
+    public enum Format {
+        JSON, BINARY
+    }
+
+    private static class RecordReader {
+
+        private final String record;
+        private int position;
+
+        RecordReader(String record, int position) {
+            this.record = record;
+            this.position = position;
+        }
+
+        String readString() {
+            if (record.charAt(position) == NULL_FIELD) {
+                position++;
+                return null;
+            }
+
+            final int delimiter = record.indexOf(LENGTH_DELIMITER, position);
+            final int length = Integer.parseInt(record, position, delimiter, 10);
+            final int end = delimiter + 1 + length;
+            final String field = record.substring(delimiter + 1, end);
+            position = end;
+            return field;
+        }
+
+        Long readNumber() {
+            if (record.charAt(position) == NULL_FIELD) {
+                position++;
+                return null;
+            }
+
+            final int delimiter = record.indexOf(NUMBER_DELIMITER, position);
+            final long number = Long.parseLong(record, position, delimiter, 10);
+            position = delimiter + 1;
+            return number;
+        }
+
+        boolean readPayloadPresence() {
+            return record.charAt(position++) == VALUE_PRESENT;
+        }
+
+        boolean hasValueMarker(char marker) {
+            return position < record.length() && record.charAt(position) == marker;
+        }
+
+        String readMarkedValue() {
+            return record.substring(position + 1);
+        }
+
+        String readValue() {
+            if (position == record.length()) {
+                return null;
+            }
+            if (record.charAt(position) != VALUE_PRESENT) {
+                throw new IllegalArgumentException("Malformed payload record");
+            }
+            return record.substring(position + 1);
+        }
+    }
+}
@@ -3,17 +3,37 @@ package org.prebid.cache.helpers;
 import lombok.extern.slf4j.Slf4j;
 import org.prebid.cache.model.PayloadTransfer;
 
-import java.util.UUID;
-
 @Slf4j
 public class RandomUUID {
 
+    private static final int NO_LENGTH_LIMIT = 0;
+
+    // alphanumeric, hyphen, and underscore; other characters, such as the colon of deduplicated content keys,
+    // are left for keys clients must not read or write
+    private static final boolean[] ALLOWED_CHARACTERS = new boolean[128];
+
+    static {
+        for (char character = 'a'; character <= 'z'; character++) {
+            ALLOWED_CHARACTERS[character] = true;
+            ALLOWED_CHARACTERS[Character.toUpperCase(character)] = true;
+        }
+        for (char character = '0'; character <= '9'; character++) {
+            ALLOWED_CHARACTERS[character] = true;
+        }
+        ALLOWED_CHARACTERS['-'] = true;
+        ALLOWED_CHARACTERS['_'] = true;
+    }
+
     private RandomUUID() {
     }
 
     public static String extractUUID(final PayloadTransfer payload) {
+        return extractUUID(payload, UUIDGenerator.SECURE_RANDOM);
+    }
+
+    public static String extractUUID(final PayloadTransfer payload, final UUIDGenerator generator) {
         return (payload.getKey() != null)
-                ? payload.getKey() : String.valueOf(UUID.randomUUID());
+                ? payload.getKey() : generator.generate();
     }
 
     public static boolean isExternalUUID(final PayloadTransfer payload) {
@@ -21,16 +41,28 @@ public class RandomUUID {
     }
 
     public static boolean isValidUUID(String uuid) {
+        return isValidUUID(uuid, NO_LENGTH_LIMIT);
+    }
+
+    public static boolean isValidUUID(String uuid, int maxLength) {
         if (uuid == null || uuid.length() == 0) {
             log.error("UUID cannot be NULL or zero length !!");
             return false;
         }
 
-        // check for alphanumeric, hyphen, and underscore
-        boolean isValid = uuid.matches("^[a-zA-Z0-9_-]*$");
-        if (!isValid)
-            log.debug("Invalid UUID: {}", uuid);
+        if (maxLength > NO_LENGTH_LIMIT && uuid.length() > maxLength) {
+            log.debug("UUID exceeds {} characters: {}", maxLength, uuid);
+            return false;
+        }
+
+        for (int i = 0; i < uuid.length(); i++) {
+            final char character = uuid.charAt(i);
+            if (character >= ALLOWED_CHARACTERS.length || !ALLOWED_CHARACTERS[character]) {
+                log.debug("Invalid UUID: {}", uuid);
+                return false;
+            }
+        }
 
-        return isValid;
+        return true;
     }
 }
@@ -0,0 +1,40 @@
+package org.prebid.cache.helpers;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum UUIDGenerator {
+
+    // random version 4 UUID from the shared SecureRandom, unpredictable but contended under high write rates
+    SECURE_RANDOM {
+        @Override
+        public String generate() {
+            return UUID.randomUUID().toString();
+        }
+    },
+
+    // random version 4 UUID from a per-thread generator, uncontended but not cryptographically unpredictable
+    THREAD_LOCAL_RANDOM {
+        @Override
+        public String generate() {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+            final long leastSigBits = (random.nextLong() & ~(0xCL << 60)) | (0x8L << 60);
+            return new UUID(mostSigBits, leastSigBits).toString();
+        }
+    },
+
+    // version 7 UUID: unix milliseconds followed by per-thread random bits, so keys written close in time
+    // sort close together in the storage backend; not cryptographically unpredictable
+    TIME_ORDERED {
+        @Override
+        public String generate() {
+            final ThreadLocalRandom random = ThreadLocalRandom.current();
+            final long mostSigBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+            final long leastSigBits = (random.nextLong() & ~(0xCL << 60)) | (0x8L << 60);
+            return new UUID(mostSigBits, leastSigBits).toString();
+        }
+    };
+
+    public abstract String generate();
+}
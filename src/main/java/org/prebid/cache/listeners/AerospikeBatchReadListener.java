@@ -0,0 +1,37 @@
+package org.prebid.cache.listeners;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.Key;
+import com.aerospike.client.Record;
+import com.aerospike.client.listener.RecordArrayListener;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.MonoSink;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+public class AerospikeBatchReadListener implements RecordArrayListener {
+
+    private final MonoSink<List<Record>> sink;
+    private final int batchSize;
+
+    public AerospikeBatchReadListener(MonoSink<List<Record>> sink, int batchSize) {
+        this.sink = sink;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onSuccess(Key[] keys, Record[] records) {
+        sink.success(Arrays.stream(records)
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    @Override
+    public void onFailure(AerospikeException exception) {
+        log.error("Error reading batch of {} records due to: {}", batchSize, exception.getMessage());
+        sink.error(exception);
+    }
+}
@@ -0,0 +1,32 @@
+package org.prebid.cache.listeners;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.listener.BatchOperateListListener;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.MonoSink;
+
+import java.util.List;
+
+@Slf4j
+public class AerospikeBatchWriteListener implements BatchOperateListListener {
+
+    private final MonoSink<List<BatchRecord>> sink;
+    private final int batchSize;
+
+    public AerospikeBatchWriteListener(MonoSink<List<BatchRecord>> sink, int batchSize) {
+        this.sink = sink;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void onSuccess(List<BatchRecord> records, boolean status) {
+        sink.success(records);
+    }
+
+    @Override
+    public void onFailure(AerospikeException exception) {
+        log.error("Error writing batch of {} records due to: {}", batchSize, exception.getMessage());
+        sink.error(exception);
+    }
+}
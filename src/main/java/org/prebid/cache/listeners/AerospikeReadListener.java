@@ -7,27 +7,20 @@ import com.aerospike.client.listener.RecordListener;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.MonoSink;
 
-import java.util.Objects;
-
 @Slf4j
 public class AerospikeReadListener implements RecordListener {
 
-    private static final String NAME = "cache";
-    private final MonoSink<String> sink;
+    private final MonoSink<Record> sink;
     private final String keyId;
 
-    public AerospikeReadListener(MonoSink<String> sink, String keyId) {
+    public AerospikeReadListener(MonoSink<Record> sink, String keyId) {
         this.sink = sink;
         this.keyId = keyId;
     }
 
     @Override
     public void onSuccess(Key key, Record record) {
-        if (Objects.nonNull(record)) {
-            sink.success(record.getString(NAME));
-        } else {
-            sink.success();
-        }
+        sink.success(record);
     }
 
     @Override
@@ -21,6 +21,23 @@ public enum MeasurementTag {
     ERROR_REJECTED_EXTERNAL_ID("pbc.err.rejectedExternalId"),
     PROXY_SUCCESS("pbc.proxy.success"),
     PROXY_FAILURE("pbc.proxy.failure"),
+    PROXY_CACHE_HIT("pbc.proxy.cache.hit"),
+    PROXY_CACHE_MISS("pbc.proxy.cache.miss"),
+    PROXY_COALESCED("pbc.proxy.coalesced"),
+    NEAR_CACHE_HIT("pbc.nearCache.hit"),
+    NEAR_CACHE_MISS("pbc.nearCache.miss"),
+    NEAR_CACHE_EVICTION("pbc.nearCache.eviction"),
+    MISS_CACHE_HIT("pbc.missCache.hit"),
+    REDIS_CLIENT_CACHE_HIT("pbc.redis.clientCache.hit"),
+    REDIS_CLIENT_CACHE_MISS("pbc.redis.clientCache.miss"),
+    READ_COALESCED("pbc.read.coalesced"),
+    READ_FILTERED("pbc.read.filtered"),
+    DEDUP_REUSED("pbc.dedup.reused"),
+    DEDUP_MISSING_CONTENT("pbc.dedup.missingContent"),
+    SECONDARY_QUEUE_SIZE("pbc.secondary.queueSize"),
+    SECONDARY_DROPPED("pbc.secondary.dropped"),
+    SECONDARY_SPILLED("pbc.secondary.spilled"),
+    SECONDARY_REPLAYED("pbc.secondary.replayed"),
     ENTRY_LIFETIME("pbc.entryLifetimeSec.${ttlBucket}");
 
     private final String tag;
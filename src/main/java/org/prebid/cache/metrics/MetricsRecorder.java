@@ -1,20 +1,29 @@
 package org.prebid.cache.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.prebid.cache.handlers.ServiceType;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class MetricsRecorder {
 
     private final MeterRegistry meterRegistry;
 
-    protected static final String PREFIX_PLACEHOLDER = "\\$\\{prefix\\}";
-    protected static final String TTL_BUCKET_PLACEHOLDER = "\\$\\{ttlBucket\\}";
+    protected static final String PREFIX_PLACEHOLDER = "${prefix}";
+    protected static final String TTL_BUCKET_PLACEHOLDER = "${ttlBucket}";
+
+    // meters are registered on first use, as they always were, and kept so that later uses don't look them up
+    private final Map<MeasurementTag, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Map<MeasurementTag, Counter>> prefixedCounters = new ConcurrentHashMap<>();
+    private final Map<ServiceType, Timer> requestTimers = new ConcurrentHashMap<>();
 
     public MetricsRecorder(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -24,8 +33,8 @@ public class MetricsRecorder {
         private final Timer timer;
         private final Timer.Sample sample;
 
-        MetricsRecorderTimer(String measurementTag) {
-            timer = meterRegistry.timer(measurementTag);
+        MetricsRecorderTimer(Timer timer) {
+            this.timer = timer;
             sample = Timer.start(meterRegistry);
         }
 
@@ -35,31 +44,120 @@ public class MetricsRecorder {
     }
 
     public Counter getInvalidRequestMeter() {
-        return meterRegistry.counter(MeasurementTag.REQUEST_INVALID.getTag());
+        return counter(MeasurementTag.REQUEST_INVALID);
     }
 
     public Counter getSecondaryCacheWriteError() {
-        return meterRegistry.counter(MeasurementTag.ERROR_SECONDARY_WRITE.getTag());
+        return counter(MeasurementTag.ERROR_SECONDARY_WRITE);
     }
 
     public Counter getExistingKeyError() {
-        return meterRegistry.counter(MeasurementTag.ERROR_EXISTING_ID.getTag());
+        return counter(MeasurementTag.ERROR_EXISTING_ID);
     }
 
     public Counter getProxySuccess() {
-        return meterRegistry.counter(MeasurementTag.PROXY_SUCCESS.getTag());
+        return counter(MeasurementTag.PROXY_SUCCESS);
     }
 
     public Counter getProxyFailure() {
-        return meterRegistry.counter(MeasurementTag.PROXY_FAILURE.getTag());
+        return counter(MeasurementTag.PROXY_FAILURE);
+    }
+
+    public Counter getProxyCacheHit() {
+        return counter(MeasurementTag.PROXY_CACHE_HIT);
+    }
+
+    public Counter getProxyCacheMiss() {
+        return counter(MeasurementTag.PROXY_CACHE_MISS);
+    }
+
+    public Counter getProxyCoalesced() {
+        return counter(MeasurementTag.PROXY_COALESCED);
     }
 
     public Counter getRejectedExternalId() {
-        return meterRegistry.counter(MeasurementTag.ERROR_REJECTED_EXTERNAL_ID.getTag());
+        return counter(MeasurementTag.ERROR_REJECTED_EXTERNAL_ID);
+    }
+
+    public Counter getNearCacheHit() {
+        return counter(MeasurementTag.NEAR_CACHE_HIT);
+    }
+
+    public Counter getNearCacheMiss() {
+        return counter(MeasurementTag.NEAR_CACHE_MISS);
+    }
+
+    public Counter getNearCacheEviction() {
+        return counter(MeasurementTag.NEAR_CACHE_EVICTION);
+    }
+
+    public Counter getMissCacheHit() {
+        return counter(MeasurementTag.MISS_CACHE_HIT);
+    }
+
+    public Counter getRedisClientCacheHit() {
+        return counter(MeasurementTag.REDIS_CLIENT_CACHE_HIT);
+    }
+
+    public Counter getRedisClientCacheMiss() {
+        return counter(MeasurementTag.REDIS_CLIENT_CACHE_MISS);
+    }
+
+    public Counter getCoalescedRead() {
+        return counter(MeasurementTag.READ_COALESCED);
+    }
+
+    public Counter getFilteredRead() {
+        return counter(MeasurementTag.READ_FILTERED);
+    }
+
+    public Counter getDedupReused() {
+        return counter(MeasurementTag.DEDUP_REUSED);
+    }
+
+    public Counter getDedupMissingContent() {
+        return counter(MeasurementTag.DEDUP_MISSING_CONTENT);
+    }
+
+    public Counter getSecondaryDropped() {
+        return counter(MeasurementTag.SECONDARY_DROPPED);
+    }
+
+    public Counter getSecondarySpilled() {
+        return counter(MeasurementTag.SECONDARY_SPILLED);
+    }
+
+    public Counter getSecondaryReplayed() {
+        return counter(MeasurementTag.SECONDARY_REPLAYED);
+    }
+
+    public void registerSecondaryQueueSize(String host, Queue<?> queue) {
+        Gauge.builder(MeasurementTag.SECONDARY_QUEUE_SIZE.getTag(), queue, Queue::size)
+                .tag("host", host)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(final MeasurementTag measurementTag) {
+        final Counter counter = counters.get(measurementTag);
+        return counter != null
+                ? counter
+                : counters.computeIfAbsent(measurementTag, tag -> meterRegistry.counter(tag.getTag()));
     }
 
     private Counter meterForTag(final String prefix, final MeasurementTag measurementTag) {
-        return meterRegistry.counter(measurementTag.getTag().replaceAll(PREFIX_PLACEHOLDER, prefix));
+        Map<MeasurementTag, Counter> tagCounters = prefixedCounters.get(prefix);
+        if (tagCounters == null) {
+            tagCounters = prefixedCounters.computeIfAbsent(prefix, key -> new ConcurrentHashMap<>());
+        }
+
+        final Counter counter = tagCounters.get(measurementTag);
+        return counter != null
+                ? counter
+                : tagCounters.computeIfAbsent(measurementTag, tag -> meterRegistry.counter(resolvePrefix(tag, prefix)));
+    }
+
+    private static String resolvePrefix(final MeasurementTag measurementTag, final String prefix) {
+        return measurementTag.getTag().replace(PREFIX_PLACEHOLDER, prefix);
     }
 
     public void markMeterForTag(final String prefix, final MeasurementTag measurementTag) {
@@ -67,18 +165,16 @@ public class MetricsRecorder {
     }
 
     public MetricsRecorderTimer createRequestTimerForServiceType(final ServiceType serviceType) {
-        if (serviceType.equals(ServiceType.FETCH)) {
-            return new MetricsRecorderTimer(
-                    MeasurementTag.REQUEST_DURATION.getTag().replaceAll(PREFIX_PLACEHOLDER, "read"));
-        } else if (serviceType.equals(ServiceType.SAVE)) {
-            return new MetricsRecorderTimer(
-                    MeasurementTag.REQUEST_DURATION.getTag().replaceAll(PREFIX_PLACEHOLDER, "write"));
+        Timer timer = requestTimers.get(serviceType);
+        if (timer == null) {
+            timer = requestTimers.computeIfAbsent(serviceType, type -> meterRegistry.timer(resolvePrefix(
+                    MeasurementTag.REQUEST_DURATION, type == ServiceType.FETCH ? "read" : "write")));
         }
-        return null;
+        return new MetricsRecorderTimer(timer);
     }
 
     public void recordEntryLifetime(String bucketName, Duration entryLifetime) {
-        meterRegistry.timer(MeasurementTag.ENTRY_LIFETIME.getTag().replaceAll(TTL_BUCKET_PLACEHOLDER, bucketName))
+        meterRegistry.timer(MeasurementTag.ENTRY_LIFETIME.getTag().replace(TTL_BUCKET_PLACEHOLDER, bucketName))
                 .record(entryLifetime);
     }
 }
@@ -15,6 +15,15 @@ public class PayloadWrapper {
 
     transient boolean isExternalId;
 
+    // set instead of the payload value when the entry was stored compressed
+    transient byte[] gzippedValue;
+
+    // set instead of the payload value when the entry was read as the UTF-8 bytes of its value
+    transient byte[] valueBytes;
+
+    // set instead of the payload value when the entry refers to a value stored once under its content hash
+    transient String contentId;
+
     public String getNormalizedId() throws PayloadWrapperPropertyException {
         if (prefix != null || id != null) {
             return String.format("%s%s", prefix, id);
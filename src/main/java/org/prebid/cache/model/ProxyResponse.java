@@ -0,0 +1,12 @@
+package org.prebid.cache.model;
+
+import lombok.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+@Value(staticConstructor = "of")
+public class ProxyResponse {
+    HttpStatusCode status;
+    HttpHeaders headers;
+    String body;
+}
@@ -3,6 +3,8 @@ package org.prebid.cache.repository;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
+import org.prebid.cache.helpers.UUIDGenerator;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -25,6 +27,10 @@ public class CacheConfig {
     private int secondaryCacheTimeoutMs;
     private int clientsCacheDuration;
     private int clientsCacheSize;
+    private int maxBatchFetchSize;
+    private int maxUuidLength;
+    private UUIDGenerator uuidGenerator;
+    private PayloadWrapperCodec.Format storageFormat;
     private String allowedProxyHost;
     private String hostParamProtocol;
 }
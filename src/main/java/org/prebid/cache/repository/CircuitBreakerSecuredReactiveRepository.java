@@ -4,8 +4,11 @@ import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 public class CircuitBreakerSecuredReactiveRepository<T, R> implements ReactiveRepository<T, R> {
@@ -20,10 +23,24 @@ public class CircuitBreakerSecuredReactiveRepository<T, R> implements ReactiveRe
                 .transform(CircuitBreakerOperator.of(circuitBreaker));
     }
 
+    @Override
+    public Flux<T> saveAll(List<T> wrappers) {
+        return delegate.saveAll(wrappers)
+                .doOnError(error -> log.error("Error while accessing data source: {}", error.getMessage(), error))
+                .transform(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
     @Override
     public Mono<T> findById(R id) {
         return delegate.findById(id)
                 .doOnError(error -> log.error("Error while accessing data source: {}", error.getMessage(), error))
                 .transform(CircuitBreakerOperator.of(circuitBreaker));
     }
+
+    @Override
+    public Flux<T> findAllById(List<R> ids) {
+        return delegate.findAllById(ids)
+                .doOnError(error -> log.error("Error while accessing data source: {}", error.getMessage(), error))
+                .transform(CircuitBreakerOperator.of(circuitBreaker));
+    }
 }
@@ -0,0 +1,50 @@
+package org.prebid.cache.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.prebid.cache.metrics.MetricsRecorder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@RequiredArgsConstructor
+public class CoalescingReactiveRepository<T, R> implements ReactiveRepository<T, R> {
+
+    private final ReactiveRepository<T, R> delegate;
+
+    private final MetricsRecorder metricsRecorder;
+
+    private final ConcurrentMap<R, Mono<T>> inFlightReads = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<T> save(T wrapper) {
+        return delegate.save(wrapper);
+    }
+
+    @Override
+    public Flux<T> saveAll(List<T> wrappers) {
+        return delegate.saveAll(wrappers);
+    }
+
+    @Override
+    public Mono<T> findById(R id) {
+        return Mono.defer(() -> {
+            final Mono<T> read = Mono.defer(() -> delegate.findById(id)).cache();
+            final Mono<T> inFlightRead = inFlightReads.putIfAbsent(id, read);
+            if (inFlightRead != null) {
+                metricsRecorder.getCoalescedRead().increment();
+            }
+
+            final Mono<T> sharedRead = inFlightRead != null ? inFlightRead : read;
+            // the read is forgotten as soon as it settles, so later requests always see fresh data
+            return sharedRead.doFinally(signal -> inFlightReads.remove(id, sharedRead));
+        });
+    }
+
+    @Override
+    public Flux<T> findAllById(List<R> ids) {
+        return delegate.findAllById(ids);
+    }
+}
@@ -0,0 +1,238 @@
+package org.prebid.cache.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.cache.exceptions.DuplicateKeyException;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+// Values at least minSizeBytes long are stored once, under the hash of their content, and entries only keep
+// a reference to it. Content records are always stored for contentExpiry, the longest expiry an entry may have,
+// so that storing the same content again, from this node or another one, only ever extends its lifetime. A content
+// record is stored again only when an entry must outlive the copy this node stored last.
+public class DeduplicatingReactiveRepository implements ReactiveRepository<PayloadWrapper, String> {
+
+    // the colon is rejected in UUIDs, so clients can neither read nor overwrite content records
+    private static final String CONTENT_ID_PREFIX = "sha256:";
+
+    private final ReactiveRepository<PayloadWrapper, String> delegate;
+    private final int minSizeBytes;
+    private final long contentExpiry;
+    private final MetricsRecorder metricsRecorder;
+    private final Cache<String, Long> contentExpirations;
+    private final LongSupplier clock;
+
+    public DeduplicatingReactiveRepository(ReactiveRepository<PayloadWrapper, String> delegate,
+                                           int minSizeBytes,
+                                           long contentExpiry,
+                                           long maxTrackedContents,
+                                           MetricsRecorder metricsRecorder) {
+
+        this(delegate, minSizeBytes, contentExpiry, maxTrackedContents, metricsRecorder,
+                () -> System.currentTimeMillis() / 1000);
+    }
+
+    DeduplicatingReactiveRepository(ReactiveRepository<PayloadWrapper, String> delegate,
+                                    int minSizeBytes,
+                                    long contentExpiry,
+                                    long maxTrackedContents,
+                                    MetricsRecorder metricsRecorder,
+                                    LongSupplier clock) {
+
+        this.delegate = delegate;
+        this.minSizeBytes = minSizeBytes;
+        this.contentExpiry = contentExpiry;
+        this.metricsRecorder = metricsRecorder;
+        this.contentExpirations = Caffeine.newBuilder()
+                .maximumSize(maxTrackedContents)
+                .build();
+        this.clock = clock;
+    }
+
+    @Override
+    public Mono<PayloadWrapper> save(PayloadWrapper wrapper) {
+        return isDeduplicated(wrapper)
+                ? saveAll(List.of(wrapper)).next()
+                : delegate.save(wrapper);
+    }
+
+    @Override
+    public Flux<PayloadWrapper> saveAll(List<PayloadWrapper> wrappers) {
+        final long now = clock.getAsLong();
+        final Map<String, PayloadWrapper> contents = new LinkedHashMap<>();
+        final Map<PayloadWrapper, PayloadWrapper> originals = new IdentityHashMap<>(wrappers.size());
+        final List<PayloadWrapper> entries = new ArrayList<>(wrappers.size());
+
+        for (PayloadWrapper wrapper : wrappers) {
+            if (!isDeduplicated(wrapper)) {
+                entries.add(wrapper);
+                continue;
+            }
+
+            final PayloadWrapper reference = toReference(wrapper, contentId(wrapper.getPayload().getValue()));
+            originals.put(reference, wrapper);
+            entries.add(reference);
+
+            final PayloadWrapper content = toContent(wrapper, reference.getContentId(), contentExpiry);
+            if (isStoredLongEnough(content, wrapper.getExpiry(), now)) {
+                metricsRecorder.getDedupReused().increment();
+            } else {
+                contents.putIfAbsent(contentNormalizedId(content), content);
+            }
+        }
+
+        // content records are stored before the entries referring to them, so a reference is never read
+        // before its content is available
+        final Flux<PayloadWrapper> savedContents = contents.isEmpty()
+                ? Flux.empty()
+                : delegate.saveAll(new ArrayList<>(contents.values()))
+                        .doOnNext(content -> trackExpiration(content, now))
+                        .onErrorResume(DuplicateKeyException.class, e -> Flux.empty());
+
+        return savedContents
+                .thenMany(Flux.defer(() -> delegate.saveAll(entries)))
+                .map(saved -> originals.getOrDefault(saved, saved));
+    }
+
+    @Override
+    public Mono<PayloadWrapper> findById(String id) {
+        return delegate.findById(id)
+                .flatMap(this::resolve);
+    }
+
+    @Override
+    public Flux<PayloadWrapper> findAllById(List<String> ids) {
+        return delegate.findAllById(ids)
+                .collectList()
+                .flatMapMany(this::resolveAll);
+    }
+
+    private boolean isDeduplicated(PayloadWrapper wrapper) {
+        final Payload payload = wrapper.getPayload();
+        return payload != null
+                && payload.getValue() != null
+                && payload.getValue().length() >= minSizeBytes
+                && wrapper.getExpiry() != null
+                && wrapper.getGzippedValue() == null
+                && wrapper.getContentId() == null;
+    }
+
+    private boolean isStoredLongEnough(PayloadWrapper content, long entryExpiry, long now) {
+        final Long expiration = contentExpirations.getIfPresent(contentNormalizedId(content));
+        return expiration != null && expiration >= now + entryExpiry;
+    }
+
+    private void trackExpiration(PayloadWrapper content, long now) {
+        contentExpirations.asMap().merge(contentNormalizedId(content), now + content.getExpiry(), Math::max);
+    }
+
+    private Mono<PayloadWrapper> resolve(PayloadWrapper wrapper) {
+        if (wrapper.getContentId() == null) {
+            return Mono.just(wrapper);
+        }
+
+        return delegate.findById(referencedNormalizedId(wrapper))
+                .map(content -> withContent(wrapper, content))
+                .switchIfEmpty(Mono.fromRunnable(() -> metricsRecorder.getDedupMissingContent().increment()));
+    }
+
+    private Flux<PayloadWrapper> resolveAll(List<PayloadWrapper> wrappers) {
+        final List<String> contentIds = wrappers.stream()
+                .filter(wrapper -> wrapper.getContentId() != null)
+                .map(DeduplicatingReactiveRepository::referencedNormalizedId)
+                .distinct()
+                .toList();
+        if (contentIds.isEmpty()) {
+            return Flux.fromIterable(wrappers);
+        }
+
+        return delegate.findAllById(contentIds)
+                .collectMap(DeduplicatingReactiveRepository::contentNormalizedId)
+                .flatMapIterable(contents -> withContents(wrappers, contents));
+    }
+
+    private List<PayloadWrapper> withContents(List<PayloadWrapper> wrappers, Map<String, PayloadWrapper> contents) {
+        final List<PayloadWrapper> resolved = new ArrayList<>(wrappers.size());
+        for (PayloadWrapper wrapper : wrappers) {
+            if (wrapper.getContentId() == null) {
+                resolved.add(wrapper);
+                continue;
+            }
+
+            final PayloadWrapper content = contents.get(referencedNormalizedId(wrapper));
+            if (content != null) {
+                resolved.add(withContent(wrapper, content));
+            } else {
+                metricsRecorder.getDedupMissingContent().increment();
+            }
+        }
+        return resolved;
+    }
+
+    private static PayloadWrapper toReference(PayloadWrapper wrapper, String contentId) {
+        final Payload payload = wrapper.getPayload();
+        return PayloadWrapper.builder()
+                .id(wrapper.getId())
+                .prefix(wrapper.getPrefix())
+                .payload(Payload.of(payload.getType(), payload.getKey(), null))
+                .timestamp(wrapper.getTimestamp())
+                .expiry(wrapper.getExpiry())
+                .isExternalId(wrapper.isExternalId())
+                .contentId(contentId)
+                .build();
+    }
+
+    private static PayloadWrapper toContent(PayloadWrapper wrapper, String contentId, long contentExpiry) {
+        return PayloadWrapper.builder()
+                .id(contentId)
+                .prefix(wrapper.getPrefix())
+                .payload(Payload.of(null, null, wrapper.getPayload().getValue()))
+                .expiry(contentExpiry)
+                .build();
+    }
+
+    private static PayloadWrapper withContent(PayloadWrapper wrapper, PayloadWrapper content) {
+        final Payload payload = wrapper.getPayload();
+        return PayloadWrapper.builder()
+                .id(wrapper.getId())
+                .prefix(wrapper.getPrefix())
+                .payload(Payload.of(payload.getType(), payload.getKey(), content.getPayload().getValue()))
+                .timestamp(wrapper.getTimestamp())
+                .expiry(wrapper.getExpiry())
+                .isExternalId(wrapper.isExternalId())
+                .gzippedValue(content.getGzippedValue())
+                .valueBytes(content.getValueBytes())
+                .build();
+    }
+
+    private static String contentNormalizedId(PayloadWrapper content) {
+        return content.getPrefix() + content.getId();
+    }
+
+    private static String referencedNormalizedId(PayloadWrapper reference) {
+        return reference.getPrefix() + reference.getContentId();
+    }
+
+    private static String contentId(String value) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return CONTENT_ID_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
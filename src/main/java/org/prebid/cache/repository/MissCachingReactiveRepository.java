@@ -0,0 +1,136 @@
+package org.prebid.cache.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.prebid.cache.exceptions.PayloadWrapperPropertyException;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.PayloadWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Remembers ids recently not found in the storage backend for a short time, so that repeated reads of a missing
+// entry don't reach the backend again. Saving an entry through this node forgets its id right away.
+@Slf4j
+public class MissCachingReactiveRepository implements ReactiveRepository<PayloadWrapper, String> {
+
+    private final ReactiveRepository<PayloadWrapper, String> delegate;
+    private final MetricsRecorder metricsRecorder;
+    private final Cache<String, Boolean> misses;
+    private final Cache<String, Long> writeEpochs;
+    private final AtomicLong epoch = new AtomicLong();
+
+    public MissCachingReactiveRepository(ReactiveRepository<PayloadWrapper, String> delegate,
+                                         Duration ttl,
+                                         long maxSize,
+                                         MetricsRecorder metricsRecorder) {
+
+        this.delegate = delegate;
+        this.metricsRecorder = metricsRecorder;
+        this.misses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.writeEpochs = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    // a write records its epoch before forgetting the id, and forgets it again once stored, so that a miss
+    // recorded by a read that started before the write is dropped by the read itself, and one recorded by
+    // a read that started during the write, before the entry was visible, is dropped by the write
+    @Override
+    public Mono<PayloadWrapper> save(PayloadWrapper wrapper) {
+        return Mono.defer(() -> {
+            startWrite(wrapper);
+            return delegate.save(wrapper);
+        }).doOnNext(this::forget);
+    }
+
+    @Override
+    public Flux<PayloadWrapper> saveAll(List<PayloadWrapper> wrappers) {
+        return Flux.defer(() -> {
+            wrappers.forEach(this::startWrite);
+            return delegate.saveAll(wrappers);
+        }).doOnNext(this::forget);
+    }
+
+    @Override
+    public Mono<PayloadWrapper> findById(String id) {
+        return Mono.defer(() -> {
+            if (misses.getIfPresent(id) != null) {
+                metricsRecorder.getMissCacheHit().increment();
+                return Mono.empty();
+            }
+
+            final long readEpoch = epoch.get();
+            return delegate.findById(id)
+                    .switchIfEmpty(Mono.fromRunnable(() -> recordMiss(id, readEpoch)));
+        });
+    }
+
+    @Override
+    public Flux<PayloadWrapper> findAllById(List<String> ids) {
+        return Flux.defer(() -> {
+            final List<String> unknownIds = new ArrayList<>(ids.size());
+            for (String id : ids) {
+                if (misses.getIfPresent(id) == null) {
+                    unknownIds.add(id);
+                }
+            }
+
+            metricsRecorder.getMissCacheHit().increment(ids.size() - unknownIds.size());
+            if (unknownIds.isEmpty()) {
+                return Flux.empty();
+            }
+
+            final long readEpoch = epoch.get();
+            final Set<String> missingIds = new HashSet<>(unknownIds);
+            return delegate.findAllById(unknownIds)
+                    .doOnNext(wrapper -> missingIds.remove(normalizedId(wrapper)))
+                    .doOnComplete(() -> missingIds.forEach(id -> recordMiss(id, readEpoch)));
+        });
+    }
+
+    // the miss is recorded before the write epoch is checked, so that a write recording its epoch concurrently
+    // either sees the miss and forgets it, or has its epoch seen here
+    private void recordMiss(String id, long readEpoch) {
+        misses.put(id, Boolean.TRUE);
+        final Long writeEpoch = writeEpochs.getIfPresent(id);
+        if (writeEpoch != null && writeEpoch > readEpoch) {
+            misses.invalidate(id);
+        }
+    }
+
+    private void startWrite(PayloadWrapper wrapper) {
+        final String id = normalizedId(wrapper);
+        if (id != null) {
+            writeEpochs.put(id, epoch.incrementAndGet());
+            misses.invalidate(id);
+        }
+    }
+
+    private void forget(PayloadWrapper wrapper) {
+        final String id = normalizedId(wrapper);
+        if (id != null) {
+            misses.invalidate(id);
+        }
+    }
+
+    private static String normalizedId(PayloadWrapper wrapper) {
+        try {
+            return wrapper.getNormalizedId();
+        } catch (PayloadWrapperPropertyException e) {
+            log.debug("Skipping miss cache for entry without id: {}", e.getMessage());
+            return null;
+        }
+    }
+}
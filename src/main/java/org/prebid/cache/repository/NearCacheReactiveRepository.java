@@ -0,0 +1,178 @@
+package org.prebid.cache.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.prebid.cache.exceptions.PayloadWrapperPropertyException;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.PayloadWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public class NearCacheReactiveRepository implements ReactiveRepository<PayloadWrapper, String> {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final ReactiveRepository<PayloadWrapper, String> delegate;
+    private final MetricsRecorder metricsRecorder;
+    private final Cache<String, PayloadWrapper> cache;
+
+    public NearCacheReactiveRepository(ReactiveRepository<PayloadWrapper, String> delegate,
+                                       Duration maxTtl,
+                                       long maxSizeBytes,
+                                       MetricsRecorder metricsRecorder) {
+
+        this(delegate, maxTtl, maxSizeBytes, metricsRecorder, Ticker.systemTicker(), System::currentTimeMillis);
+    }
+
+    NearCacheReactiveRepository(ReactiveRepository<PayloadWrapper, String> delegate,
+                                Duration maxTtl,
+                                long maxSizeBytes,
+                                MetricsRecorder metricsRecorder,
+                                Ticker ticker,
+                                LongSupplier clock) {
+
+        this.delegate = delegate;
+        this.metricsRecorder = metricsRecorder;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .weigher(NearCacheReactiveRepository::weigh)
+                .expireAfter(new WrapperExpiry(maxTtl, clock))
+                .ticker(ticker)
+                .evictionListener((String id, PayloadWrapper wrapper, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        metricsRecorder.getNearCacheEviction().increment();
+                    }
+                })
+                .build();
+    }
+
+    @Override
+    public Mono<PayloadWrapper> save(PayloadWrapper wrapper) {
+        return delegate.save(wrapper)
+                .doOnNext(this::put);
+    }
+
+    @Override
+    public Flux<PayloadWrapper> saveAll(List<PayloadWrapper> wrappers) {
+        return delegate.saveAll(wrappers)
+                .doOnNext(this::put);
+    }
+
+    @Override
+    public Mono<PayloadWrapper> findById(String id) {
+        final PayloadWrapper cached = cache.getIfPresent(id);
+        if (cached != null) {
+            metricsRecorder.getNearCacheHit().increment();
+            return Mono.just(cached);
+        }
+
+        metricsRecorder.getNearCacheMiss().increment();
+        return delegate.findById(id)
+                .doOnNext(wrapper -> cache.put(id, wrapper));
+    }
+
+    @Override
+    public Flux<PayloadWrapper> findAllById(List<String> ids) {
+        final Map<String, PayloadWrapper> found = new HashMap<>(ids.size());
+        final List<String> misses = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            final PayloadWrapper cached = cache.getIfPresent(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        metricsRecorder.getNearCacheHit().increment(ids.size() - misses.size());
+        metricsRecorder.getNearCacheMiss().increment(misses.size());
+
+        final Flux<PayloadWrapper> fetched = misses.isEmpty()
+                ? Flux.empty()
+                : delegate.findAllById(misses);
+
+        // hits and fetched entries are returned in the order of the requested ids
+        return fetched
+                .doOnNext(wrapper -> {
+                    final String id = normalizedId(wrapper);
+                    if (id != null) {
+                        cache.put(id, wrapper);
+                        found.put(id, wrapper);
+                    }
+                })
+                .thenMany(Flux.defer(() -> Flux.fromStream(ids.stream().map(found::get).filter(Objects::nonNull))));
+    }
+
+    private void put(PayloadWrapper wrapper) {
+        final String id = normalizedId(wrapper);
+        if (id != null) {
+            cache.put(id, wrapper);
+        }
+    }
+
+    private static String normalizedId(PayloadWrapper wrapper) {
+        try {
+            return wrapper.getNormalizedId();
+        } catch (PayloadWrapperPropertyException e) {
+            log.debug("Skipping near cache for entry without id: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static int weigh(String id, PayloadWrapper wrapper) {
+        final String value = wrapper.getPayload() != null ? wrapper.getPayload().getValue() : null;
+        final byte[] gzippedValue = wrapper.getGzippedValue();
+        final byte[] valueBytes = wrapper.getValueBytes();
+        final long weight = ENTRY_OVERHEAD_BYTES + id.length() + (value != null ? value.length() : 0)
+                + (gzippedValue != null ? gzippedValue.length : 0) + (valueBytes != null ? valueBytes.length : 0);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    // entries live for what is left of their lifetime in the backend, counted from the time they were written, but
+    // never longer than maxTtl, so an entry populated from a read does not outlive the backend copy; entries without
+    // a timestamp live for their whole expiry at most
+    @RequiredArgsConstructor
+    private static class WrapperExpiry implements Expiry<String, PayloadWrapper> {
+
+        private final Duration maxTtl;
+        private final LongSupplier clock;
+
+        @Override
+        public long expireAfterCreate(String id, PayloadWrapper wrapper, long currentTime) {
+            final Long expiry = wrapper.getExpiry();
+            if (expiry == null) {
+                return maxTtl.toNanos();
+            }
+
+            final Long timestamp = wrapper.getTimestamp();
+            final Duration ttl = timestamp != null
+                    ? Duration.ofMillis(timestamp + expiry * 1000 - clock.getAsLong())
+                    : Duration.ofSeconds(expiry);
+            return ttl.isNegative() ? 0 : Math.min(ttl.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, PayloadWrapper wrapper, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, wrapper, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, PayloadWrapper wrapper, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
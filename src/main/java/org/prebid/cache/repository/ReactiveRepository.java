@@ -1,9 +1,16 @@
 package org.prebid.cache.repository;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 public interface ReactiveRepository<T, R> {
     Mono<T> save(T wrapper);
 
+    Flux<T> saveAll(List<T> wrappers);
+
     Mono<T> findById(R id);
+
+    Flux<T> findAllById(List<R> ids);
 }
@@ -1,9 +1,11 @@
 package org.prebid.cache.repository;
 
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 
 @RequiredArgsConstructor
 public class TimeOutCapableReactiveRepository<T, R> implements ReactiveRepository<T, R> {
@@ -18,9 +20,21 @@ public class TimeOutCapableReactiveRepository<T, R> implements ReactiveRepositor
             .timeout(duration);
     }
 
+    @Override
+    public Flux<T> saveAll(List<T> wrappers) {
+        return delegate.saveAll(wrappers)
+            .timeout(duration);
+    }
+
     @Override
     public Mono<T> findById(R id) {
         return delegate.findById(id)
             .timeout(duration);
     }
+
+    @Override
+    public Flux<T> findAllById(List<R> ids) {
+        return delegate.findAllById(ids)
+            .timeout(duration);
+    }
 }
@@ -0,0 +1,104 @@
+package org.prebid.cache.repository.aerospike;
+
+import com.aerospike.client.AerospikeException;
+import com.aerospike.client.ResultCode;
+import com.aerospike.client.policy.BatchPolicy;
+import com.aerospike.client.policy.BatchWritePolicy;
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Set;
+
+// Builds the policies and the retry spec of Aerospike commands once, instead of on every command. Policies are only
+// read by the client, so a single instance is shared by concurrent commands; write policies are kept per expiry,
+// of which clients use only a few.
+@Slf4j
+public class AerospikePolicies {
+
+    private static final Set<Integer> RETRY_CODES = Set.of(
+            ResultCode.GENERATION_ERROR, ResultCode.KEY_NOT_FOUND_ERROR);
+
+    private static final int MAX_CACHED_EXPIRIES = 1024;
+
+    private final AerospikePropertyConfiguration configuration;
+    private final BatchPolicy batchPolicy;
+    private final LoadingCache<Long, WritePolicy> writePolicies;
+    private final LoadingCache<Long, BatchWritePolicy> batchWritePolicies;
+    private final Retry retry;
+
+    public AerospikePolicies(AerospikePropertyConfiguration configuration) {
+        this.configuration = configuration;
+        this.batchPolicy = createBatchPolicy(configuration);
+        this.writePolicies = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_EXPIRIES)
+                .build(this::createWritePolicy);
+        this.batchWritePolicies = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_EXPIRIES)
+                .build(this::createBatchWritePolicy);
+        this.retry = createRetry(configuration);
+    }
+
+    public WritePolicy writePolicy(long expiry) {
+        return writePolicies.get(expiry);
+    }
+
+    public BatchWritePolicy batchWritePolicy(long expiry) {
+        return batchWritePolicies.get(expiry);
+    }
+
+    public BatchPolicy batchPolicy() {
+        return batchPolicy;
+    }
+
+    public Retry retry() {
+        return retry;
+    }
+
+    private WritePolicy createWritePolicy(long expiry) {
+        final WritePolicy writePolicy = new WritePolicy();
+        writePolicy.setConnectTimeout(configuration.getConnectTimeout());
+        writePolicy.setTimeouts(configuration.getSocketTimeout(), configuration.getTotalTimeout());
+        writePolicy.expiration = (int) expiry;
+        writePolicy.recordExistsAction = recordExistsAction();
+        return writePolicy;
+    }
+
+    private BatchWritePolicy createBatchWritePolicy(long expiry) {
+        final BatchWritePolicy batchWritePolicy = new BatchWritePolicy();
+        batchWritePolicy.expiration = (int) expiry;
+        batchWritePolicy.recordExistsAction = recordExistsAction();
+        return batchWritePolicy;
+    }
+
+    // overwritten records are replaced as a whole, so that no bin of a record written in the other bin layout is left
+    private RecordExistsAction recordExistsAction() {
+        return configuration.isPreventUUIDDuplication()
+                ? RecordExistsAction.CREATE_ONLY
+                : RecordExistsAction.REPLACE;
+    }
+
+    private static BatchPolicy createBatchPolicy(AerospikePropertyConfiguration configuration) {
+        final BatchPolicy batchPolicy = new BatchPolicy();
+        batchPolicy.setConnectTimeout(configuration.getConnectTimeout());
+        batchPolicy.setTimeouts(configuration.getSocketTimeout(), configuration.getTotalTimeout());
+        batchPolicy.setReplica(configuration.getReadPolicy());
+        return batchPolicy;
+    }
+
+    private static Retry createRetry(AerospikePropertyConfiguration configuration) {
+        final Duration minBackoff = Duration.ofMillis(configuration.getFirstBackoff());
+        final Duration maxBackoff = Duration.ofMillis(configuration.getMaxBackoff());
+        final long maxAttempts = configuration.getMaxRetry();
+
+        return Retry.backoff(maxAttempts, minBackoff)
+                .maxBackoff(maxBackoff)
+                .filter(e -> e instanceof AerospikeException aerospikeException
+                        && RETRY_CODES.contains(aerospikeException.getResultCode()))
+                .doAfterRetry(signal -> log.warn("Retrying context {}", signal.retryContextView()));
+    }
+}
@@ -48,6 +48,7 @@ public class AerospikePropertyConfiguration {
     private int minConnsPerNode;
     private int maxConnsPerNode = 100;
     private Replica readPolicy = Replica.SEQUENCE;
+    private AerospikeRecordCodec.Layout binLayout = AerospikeRecordCodec.Layout.SINGLE;
 
     private static final int DEFAULT_PORT = 3000;
 
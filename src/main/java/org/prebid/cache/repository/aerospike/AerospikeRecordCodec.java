@@ -0,0 +1,142 @@
+package org.prebid.cache.repository.aerospike;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Record;
+import lombok.RequiredArgsConstructor;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+// The separate bins layout keeps each field in its own bin: the payload type as a small int, the value as a blob of
+// its UTF-8 bytes, or of its gzipped bytes with the gzipped flag set, so that the value is neither escaped, parsed
+// nor Base64-encoded. Values are read back as bytes, which responses write as they are. Entries deduplicated by content hash hold the id of the shared content record in place of the
+// value. Records holding the single cache bin are encoded by PayloadWrapperCodec and are readable in both layouts.
+@RequiredArgsConstructor
+public class AerospikeRecordCodec {
+
+    private static final String CACHE_BIN = "cache";
+    private static final String TYPE_BIN = "type";
+    private static final String KEY_BIN = "key";
+    private static final String PREFIX_BIN = "prefix";
+    private static final String ID_BIN = "id";
+    private static final String TIMESTAMP_BIN = "ts";
+    private static final String EXPIRY_BIN = "expiry";
+    private static final String VALUE_BIN = "value";
+    private static final String GZIPPED_BIN = "gz";
+    private static final String CONTENT_ID_BIN = "ref";
+
+    // a type is stored as its index in this list, other types are stored as they are
+    private static final List<String> TYPES = List.of("", "json", "xml", "text");
+    private static final int NO_TYPE = 0;
+
+    private final Layout layout;
+    private final PayloadWrapperCodec codec;
+
+    public Bin[] encode(PayloadWrapper wrapper) {
+        return layout == Layout.SEPARATE
+                ? encodeBins(wrapper)
+                : new Bin[]{new Bin(CACHE_BIN, codec.encode(wrapper))};
+    }
+
+    public PayloadWrapper decode(Record record) {
+        final String cache = record.getString(CACHE_BIN);
+        return cache != null ? codec.decode(cache) : decodeBins(record);
+    }
+
+    private Bin[] encodeBins(PayloadWrapper wrapper) {
+        final List<Bin> bins = new ArrayList<>(8);
+        addBin(bins, PREFIX_BIN, wrapper.getPrefix());
+        addBin(bins, ID_BIN, wrapper.getId());
+        addBin(bins, TIMESTAMP_BIN, wrapper.getTimestamp());
+        addBin(bins, EXPIRY_BIN, wrapper.getExpiry());
+
+        final Payload payload = wrapper.getPayload();
+        if (payload != null) {
+            bins.add(encodeType(payload.getType()));
+            addBin(bins, KEY_BIN, payload.getKey());
+
+            if (wrapper.getContentId() != null) {
+                bins.add(new Bin(CONTENT_ID_BIN, wrapper.getContentId()));
+            } else {
+                addValueBins(bins, wrapper);
+            }
+        }
+
+        return bins.toArray(Bin[]::new);
+    }
+
+    private void addValueBins(List<Bin> bins, PayloadWrapper wrapper) {
+        final byte[] gzippedValue = codec.gzippedValue(wrapper);
+        final String value = wrapper.getPayload().getValue();
+        if (gzippedValue != null) {
+            bins.add(new Bin(VALUE_BIN, gzippedValue));
+            bins.add(new Bin(GZIPPED_BIN, 1));
+        } else if (wrapper.getValueBytes() != null) {
+            bins.add(new Bin(VALUE_BIN, wrapper.getValueBytes()));
+        } else if (value != null) {
+            bins.add(new Bin(VALUE_BIN, value.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static PayloadWrapper decodeBins(Record record) {
+        final PayloadWrapper.PayloadWrapperBuilder builder = PayloadWrapper.builder()
+                .prefix(record.getString(PREFIX_BIN))
+                .id(record.getString(ID_BIN))
+                .timestamp((Long) record.getValue(TIMESTAMP_BIN))
+                .expiry((Long) record.getValue(EXPIRY_BIN));
+
+        final Object type = record.getValue(TYPE_BIN);
+        if (type == null) {
+            return builder.build();
+        }
+
+        final String typeName = decodeType(type);
+        final String key = record.getString(KEY_BIN);
+        final String contentId = record.getString(CONTENT_ID_BIN);
+        final byte[] value = (byte[]) record.getValue(VALUE_BIN);
+        if (contentId != null) {
+            builder.payload(Payload.of(typeName, key, null)).contentId(contentId);
+        } else if (value != null && record.getValue(GZIPPED_BIN) != null) {
+            builder.payload(Payload.of(typeName, key, null)).gzippedValue(value);
+        } else {
+            builder.payload(Payload.of(typeName, key, null)).valueBytes(value);
+        }
+        return builder.build();
+    }
+
+    private static Bin encodeType(String type) {
+        if (type == null) {
+            return new Bin(TYPE_BIN, NO_TYPE);
+        }
+
+        final int index = TYPES.indexOf(type);
+        return index > NO_TYPE ? new Bin(TYPE_BIN, index) : new Bin(TYPE_BIN, type);
+    }
+
+    private static String decodeType(Object type) {
+        if (type instanceof Long index) {
+            return index > NO_TYPE && index < TYPES.size() ? TYPES.get(index.intValue()) : null;
+        }
+        return (String) type;
+    }
+
+    private static void addBin(List<Bin> bins, String name, String value) {
+        if (value != null) {
+            bins.add(new Bin(name, value));
+        }
+    }
+
+    private static void addBin(List<Bin> bins, String name, Long value) {
+        if (value != null) {
+            bins.add(new Bin(name, value.longValue()));
+        }
+    }
+
+    public enum Layout {
+        SINGLE, SEPARATE
+    }
+}
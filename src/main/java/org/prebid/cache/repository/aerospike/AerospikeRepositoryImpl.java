@@ -2,34 +2,36 @@ package org.prebid.cache.repository.aerospike;
 
 import com.aerospike.client.AerospikeClient;
 import com.aerospike.client.AerospikeException;
-import com.aerospike.client.Bin;
+import com.aerospike.client.BatchRecord;
+import com.aerospike.client.BatchWrite;
 import com.aerospike.client.Key;
+import com.aerospike.client.Operation;
+import com.aerospike.client.Record;
 import com.aerospike.client.ResultCode;
 import com.aerospike.client.async.EventLoops;
 import com.aerospike.client.policy.Policy;
-import com.aerospike.client.policy.RecordExistsAction;
 import com.aerospike.client.policy.WritePolicy;
 import jakarta.validation.constraints.NotNull;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.prebid.cache.exceptions.DuplicateKeyException;
 import org.prebid.cache.exceptions.PayloadWrapperPropertyException;
 import org.prebid.cache.exceptions.RepositoryException;
-import org.prebid.cache.helpers.Json;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
+import org.prebid.cache.listeners.AerospikeBatchReadListener;
+import org.prebid.cache.listeners.AerospikeBatchWriteListener;
 import org.prebid.cache.listeners.AerospikeReadListener;
 import org.prebid.cache.listeners.AerospikeWriteListener;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.repository.ReactiveRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 @Slf4j
-@RequiredArgsConstructor
 public class AerospikeRepositoryImpl implements ReactiveRepository<PayloadWrapper, String> {
     @NotNull
     private final AerospikePropertyConfiguration configuration;
@@ -40,18 +42,32 @@ public class AerospikeRepositoryImpl implements ReactiveRepository<PayloadWrappe
     @NotNull
     private final Policy policy;
 
-    private static final String BIN_NAME = "cache";
+    private final AerospikePolicies policies;
+
+    private final AerospikeRecordCodec recordCodec;
+
+    public AerospikeRepositoryImpl(AerospikePropertyConfiguration configuration,
+                                   AerospikeClient client,
+                                   EventLoops eventLoops,
+                                   Policy policy,
+                                   PayloadWrapperCodec codec) {
+
+        this.configuration = configuration;
+        this.client = client;
+        this.eventLoops = eventLoops;
+        this.policy = policy;
+        this.policies = new AerospikePolicies(configuration);
+        this.recordCodec = new AerospikeRecordCodec(configuration.getBinLayout(), codec);
+    }
 
     @Override
     public Mono<PayloadWrapper> save(final PayloadWrapper wrapper) {
-        long expiry;
+        WritePolicy policy;
         String normalizedId;
-        WritePolicy policy = writePolicy();
 
         try {
-            expiry = wrapper.getExpiry();
+            policy = policies.writePolicy(wrapper.getExpiry());
             normalizedId = wrapper.getNormalizedId();
-            policy.expiration = (int) expiry;
         } catch (PayloadWrapperPropertyException e) {
             log.error("Exception occurred while extracting normalized id from payload: '{}', cause: '{}'",
                     ExceptionUtils.getMessage(e), ExceptionUtils.getMessage(e));
@@ -61,45 +77,74 @@ public class AerospikeRepositoryImpl implements ReactiveRepository<PayloadWrappe
         return Mono.<String>create(sink -> client.put(eventLoops.next(),
                         new AerospikeWriteListener(sink, normalizedId), policy,
                         new Key(configuration.getNamespace(), "", normalizedId),
-                        new Bin(BIN_NAME, Json.toJson(wrapper)))).map(payload -> wrapper)
-                .retryWhen(getRetryPolicy())
+                        recordCodec.encode(wrapper))).map(payload -> wrapper)
+                .retryWhen(policies.retry())
+                .onErrorResume(this::handleAerospikeError);
+    }
+
+    @Override
+    public Flux<PayloadWrapper> saveAll(final List<PayloadWrapper> wrappers) {
+        final List<PayloadWrapper> batchedWrappers = new ArrayList<>(wrappers.size());
+        final List<BatchRecord> records = new ArrayList<>(wrappers.size());
+
+        for (PayloadWrapper wrapper : wrappers) {
+            try {
+                final Key key = new Key(configuration.getNamespace(), "", wrapper.getNormalizedId());
+                final Operation[] puts = Arrays.stream(recordCodec.encode(wrapper))
+                        .map(Operation::put)
+                        .toArray(Operation[]::new);
+                records.add(new BatchWrite(policies.batchWritePolicy(wrapper.getExpiry()), key, puts));
+                batchedWrappers.add(wrapper);
+            } catch (PayloadWrapperPropertyException e) {
+                log.error("Exception occurred while extracting normalized id from payload: '{}', cause: '{}'",
+                        ExceptionUtils.getMessage(e), ExceptionUtils.getMessage(e));
+            }
+        }
+
+        if (records.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return Mono.<List<BatchRecord>>create(sink -> client.operate(eventLoops.next(),
+                        new AerospikeBatchWriteListener(sink, records.size()), policies.batchPolicy(), records))
+                .retryWhen(policies.retry())
+                .flatMapMany(results -> Flux.range(0, results.size())
+                        .concatMap(index -> toSavedWrapper(results.get(index), batchedWrappers.get(index))))
                 .onErrorResume(this::handleAerospikeError);
     }
 
     @Override
     public Mono<PayloadWrapper> findById(String id) {
-        return Mono.<String>create(sink -> client.get(eventLoops.next(),
+        return Mono.<Record>create(sink -> client.get(eventLoops.next(),
                         new AerospikeReadListener(sink, id),
                         policy, new Key(configuration.getNamespace(), "", id)))
-                .map(json -> Json.createPayloadFromJson(json, PayloadWrapper.class))
-                .retryWhen(getRetryPolicy())
+                .map(recordCodec::decode)
+                .retryWhen(policies.retry())
                 .onErrorResume(this::handleAerospikeError);
     }
 
-    private WritePolicy writePolicy() {
-        final WritePolicy writePolicy = new WritePolicy();
-        writePolicy.setConnectTimeout(configuration.getConnectTimeout());
-        writePolicy.setTimeouts(configuration.getSocketTimeout(), configuration.getTotalTimeout());
-        if (configuration.isPreventUUIDDuplication()) {
-            writePolicy.recordExistsAction = RecordExistsAction.CREATE_ONLY;
+    @Override
+    public Flux<PayloadWrapper> findAllById(List<String> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
         }
-        return writePolicy;
-    }
 
-    private List<Integer> getRetryCodes() {
-        return Arrays.asList(ResultCode.GENERATION_ERROR, ResultCode.KEY_NOT_FOUND_ERROR);
-    }
+        final Key[] keys = ids.stream()
+                .map(id -> new Key(configuration.getNamespace(), "", id))
+                .toArray(Key[]::new);
 
-    private Retry getRetryPolicy() {
-        Duration minBackoff = Duration.ofMillis(configuration.getFirstBackoff());
-        Duration maxBackoff = Duration.ofMillis(configuration.getMaxBackoff());
-        long maxAttempts = configuration.getMaxRetry();
+        return Mono.<List<Record>>create(sink -> client.get(eventLoops.next(),
+                        new AerospikeBatchReadListener(sink, keys.length), policies.batchPolicy(), keys))
+                .flatMapIterable(records -> records)
+                .map(recordCodec::decode)
+                .retryWhen(policies.retry())
+                .onErrorResume(this::handleAerospikeError);
+    }
 
-        return Retry.backoff(maxAttempts, minBackoff)
-                .maxBackoff(maxBackoff)
-                .filter(e -> e instanceof AerospikeException
-                        && getRetryCodes().contains(((AerospikeException) e).getResultCode()))
-                .doAfterRetry(signal -> log.warn("Retrying context {}", signal.retryContextView()));
+    private static Mono<PayloadWrapper> toSavedWrapper(BatchRecord record, PayloadWrapper wrapper) {
+        return record.resultCode == ResultCode.OK
+                ? Mono.just(wrapper)
+                : Mono.error(new AerospikeException(record.resultCode, record.inDoubt));
     }
 
     private <T> Mono<T> handleAerospikeError(Throwable throwable) {
@@ -6,14 +6,21 @@ import org.apache.ignite.client.ClientCache;
 import org.apache.ignite.client.ClientException;
 import org.prebid.cache.exceptions.PayloadWrapperPropertyException;
 import org.prebid.cache.exceptions.RepositoryException;
-import org.prebid.cache.helpers.Json;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.repository.ReactiveRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
 import javax.cache.expiry.ExpiryPolicy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -21,8 +28,11 @@ public class IgniteRepositoryImpl implements ReactiveRepository<PayloadWrapper,
 
     private final ClientCache<String, String> cache;
 
-    public IgniteRepositoryImpl(ClientCache<String, String> cache) {
+    private final PayloadWrapperCodec codec;
+
+    public IgniteRepositoryImpl(ClientCache<String, String> cache, PayloadWrapperCodec codec) {
         this.cache = cache;
+        this.codec = codec;
     }
 
     @Override
@@ -40,15 +50,62 @@ public class IgniteRepositoryImpl implements ReactiveRepository<PayloadWrapper,
         }
 
         final ClientCache<String, String> expiredCache = cache.withExpirePolicy(expiryPolicy);
-        return Mono.fromFuture(expiredCache.putIfAbsentAsync(normalizedId, Json.toJson(wrapper)).toCompletableFuture())
+        return Mono.fromFuture(expiredCache.putIfAbsentAsync(normalizedId, codec.encode(wrapper)).toCompletableFuture())
                 .map(payload -> wrapper)
                 .onErrorResume(IgniteRepositoryImpl::handleError);
     }
 
+    @Override
+    public Flux<PayloadWrapper> saveAll(List<PayloadWrapper> wrappers) {
+        final List<PayloadWrapper> savedWrappers = new ArrayList<>(wrappers.size());
+        final List<Mono<?>> writes = new ArrayList<>();
+        final Map<Long, Map<String, String>> generatedIdEntriesByExpiry = new HashMap<>();
+
+        for (PayloadWrapper wrapper : wrappers) {
+            final String normalizedId;
+            try {
+                normalizedId = wrapper.getNormalizedId();
+            } catch (PayloadWrapperPropertyException e) {
+                log.error("Exception occurred while extracting normalized id from payload: '{}', cause: '{}'",
+                        ExceptionUtils.getMessage(e), ExceptionUtils.getMessage(e));
+                continue;
+            }
+
+            // external ids may collide with existing entries, so they keep the put-if-absent semantic
+            if (wrapper.isExternalId()) {
+                writes.add(save(wrapper));
+            } else {
+                generatedIdEntriesByExpiry.computeIfAbsent(wrapper.getExpiry(), expiry -> new HashMap<>())
+                        .put(normalizedId, codec.encode(wrapper));
+            }
+            savedWrappers.add(wrapper);
+        }
+
+        generatedIdEntriesByExpiry.forEach((expiry, entries) -> {
+            final ExpiryPolicy expiryPolicy = new CreatedExpiryPolicy(new Duration(TimeUnit.SECONDS, expiry));
+            writes.add(Mono.fromFuture(cache.withExpirePolicy(expiryPolicy).putAllAsync(entries).toCompletableFuture())
+                    .onErrorResume(IgniteRepositoryImpl::handleError));
+        });
+
+        return Mono.when(writes)
+                .thenMany(Flux.fromIterable(savedWrappers));
+    }
+
     @Override
     public Mono<PayloadWrapper> findById(String id) {
         return Mono.fromFuture(cache.getAsync(id).toCompletableFuture())
-                .map(json -> Json.createPayloadFromJson(json, PayloadWrapper.class))
+                .map(codec::decode)
+                .onErrorResume(IgniteRepositoryImpl::handleError);
+    }
+
+    @Override
+    public Flux<PayloadWrapper> findAllById(List<String> ids) {
+        return Mono.fromFuture(cache.getAllAsync(new LinkedHashSet<>(ids)).toCompletableFuture())
+                .flatMapIterable(entries -> ids.stream()
+                        .map(entries::get)
+                        .filter(Objects::nonNull)
+                        .toList())
+                .map(codec::decode)
                 .onErrorResume(IgniteRepositoryImpl::handleError);
     }
 
@@ -0,0 +1,107 @@
+package org.prebid.cache.repository.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.PayloadWrapper;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Keeps entries read from a single Redis instance in process memory. Redis tracks the keys read on each pooled
+// connection and pushes an invalidation once one of them is overwritten, deleted or expired. A connection loses its
+// tracking when it reconnects, so entries are dropped on disconnect and the cache stays unused until tracking is
+// turned on again for every connection.
+@Slf4j
+public class RedisClientSideCache implements RedisConnectionStateListener {
+
+    private static final String INVALIDATE = "invalidate";
+
+    private final Cache<String, PayloadWrapper> cache;
+    private final MetricsRecorder metricsRecorder;
+    private final AtomicInteger untrackedConnections = new AtomicInteger();
+
+    public RedisClientSideCache(long maxSize, Duration maxTtl, MetricsRecorder metricsRecorder) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(maxTtl)
+                .build();
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    public void track(StatefulRedisConnection<String, String> connection) {
+        connection.addListener(this::onPushMessage);
+        connection.sync().clientTracking(TrackingArgs.Builder.enabled());
+    }
+
+    public PayloadWrapper get(String key) {
+        final PayloadWrapper cached = untrackedConnections.get() == 0 ? cache.getIfPresent(key) : null;
+        if (cached != null) {
+            metricsRecorder.getRedisClientCacheHit().increment();
+        } else {
+            metricsRecorder.getRedisClientCacheMiss().increment();
+        }
+        return cached;
+    }
+
+    // called as soon as the read completes on the connection's event loop, before any invalidation pushed after it
+    public void put(String key, PayloadWrapper wrapper) {
+        if (untrackedConnections.get() == 0) {
+            cache.put(key, wrapper);
+        }
+    }
+
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onPushMessage(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+
+        // keys are left out when the whole database was flushed
+        final List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        final Object keys = content.size() > 1 ? content.get(1) : null;
+        if (keys instanceof List<?>) {
+            cache.invalidateAll((List<String>) keys);
+        } else {
+            cache.invalidateAll();
+        }
+    }
+
+    @Override
+    public void onRedisDisconnected(RedisChannelHandler<?, ?> connection) {
+        untrackedConnections.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onRedisConnected(RedisChannelHandler<?, ?> connection, SocketAddress socketAddress) {
+        if (!(connection instanceof StatefulRedisConnection<?, ?>)) {
+            return;
+        }
+
+        ((StatefulRedisConnection<String, String>) connection).async()
+                .clientTracking(TrackingArgs.Builder.enabled())
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        log.error("Failed to turn on Redis tracking, client-side cache stays unused: {}",
+                                throwable.getMessage());
+                    } else {
+                        untrackedConnections.decrementAndGet();
+                    }
+                });
+    }
+}
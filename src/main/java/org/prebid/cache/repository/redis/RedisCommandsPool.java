@@ -0,0 +1,71 @@
+package org.prebid.cache.repository.redis;
+
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisStringReactiveCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Hands out the commands of a fixed set of multiplexed connections in turn, so that commands are written and their
+// replies decoded on several channels and event loop threads instead of all going through a single connection.
+public class RedisCommandsPool {
+
+    private final List<? extends StatefulConnection<String, String>> connections;
+    private final List<RedisStringReactiveCommands<String, String>> commands;
+    private final AtomicInteger next = new AtomicInteger();
+
+    RedisCommandsPool(List<? extends StatefulConnection<String, String>> connections,
+                      List<RedisStringReactiveCommands<String, String>> commands) {
+
+        this.connections = connections;
+        this.commands = commands;
+    }
+
+    public static RedisCommandsPool connect(RedisClient client, int size) {
+        return connect(client, size, null);
+    }
+
+    public static RedisCommandsPool connect(RedisClient client, int size, RedisClientSideCache clientSideCache) {
+        final List<StatefulRedisConnection<String, String>> connections = new ArrayList<>(size);
+        final List<RedisStringReactiveCommands<String, String>> commands = new ArrayList<>(size);
+        for (int i = 0; i < Math.max(size, 1); i++) {
+            final StatefulRedisConnection<String, String> connection = client.connect();
+            if (clientSideCache != null) {
+                clientSideCache.track(connection);
+            }
+            connections.add(connection);
+            commands.add(connection.reactive());
+        }
+        if (clientSideCache != null) {
+            // registered once all connections are tracked, so that only reconnects turn tracking on again
+            client.addListener(clientSideCache);
+        }
+        return new RedisCommandsPool(connections, commands);
+    }
+
+    public static RedisCommandsPool connect(RedisClusterClient client, int size, ReadFrom readFrom) {
+        final List<StatefulRedisClusterConnection<String, String>> connections = new ArrayList<>(size);
+        final List<RedisStringReactiveCommands<String, String>> commands = new ArrayList<>(size);
+        for (int i = 0; i < Math.max(size, 1); i++) {
+            final StatefulRedisClusterConnection<String, String> connection = client.connect();
+            connection.setReadFrom(readFrom);
+            connections.add(connection);
+            commands.add(connection.reactive());
+        }
+        return new RedisCommandsPool(connections, commands);
+    }
+
+    public RedisStringReactiveCommands<String, String> next() {
+        return commands.get(Math.floorMod(next.getAndIncrement(), commands.size()));
+    }
+
+    public void close() {
+        connections.forEach(StatefulConnection::close);
+    }
+}
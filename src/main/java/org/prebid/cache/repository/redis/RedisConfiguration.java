@@ -1,18 +1,21 @@
 package org.prebid.cache.repository.redis;
 
+import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisClient;
-import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.reactive.RedisStringReactiveCommands;
 import io.lettuce.core.cluster.RedisClusterClient;
-import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.protocol.ProtocolVersion;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Data
 @NoArgsConstructor
 @Configuration
@@ -28,20 +31,33 @@ public class RedisConfiguration {
     @Bean(destroyMethod = "shutdown")
     @ConditionalOnProperty(prefix = "spring.redis", name = "host")
     RedisClient client(RedisConfigurationProperties properties) {
-        return RedisClient.create(RedisUtils.createRedisURI(
+        final RedisClient redisClient = RedisClient.create(RedisUtils.createRedisURI(
                 properties.getHost(), properties.getPort(), properties.getTimeout(), properties.getPassword()));
-    }
+        if (properties.getClientCache().isEnabled()) {
+            // invalidations are pushed on the tracked connection itself, which only RESP3 allows
+            redisClient.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP3).build());
+        }
 
-    @Bean(destroyMethod = "close")
-    @ConditionalOnProperty(prefix = "spring.redis", name = "host")
-    StatefulRedisConnection<String, String> connection(RedisClient client) {
-        return client.connect();
+        return redisClient;
     }
 
     @Bean
+    @ConditionalOnProperty(prefix = "spring.redis", name = "client-cache.enabled", havingValue = "true")
+    RedisClientSideCache redisClientSideCache(RedisConfigurationProperties properties,
+                                              MetricsRecorder metricsRecorder) {
+
+        final RedisConfigurationProperties.ClientCache clientCache = properties.getClientCache();
+        return new RedisClientSideCache(
+                clientCache.getMaxSize(), Duration.ofSeconds(clientCache.getMaxTtlSec()), metricsRecorder);
+    }
+
+    @Bean(destroyMethod = "close")
     @ConditionalOnProperty(prefix = "spring.redis", name = "host")
-    RedisStringReactiveCommands<String, String> reactiveCommands(StatefulRedisConnection<String, String> connection) {
-        return connection.reactive();
+    RedisCommandsPool commandsPool(RedisClient client,
+                                   RedisConfigurationProperties properties,
+                                   ObjectProvider<RedisClientSideCache> clientSideCache) {
+
+        return RedisCommandsPool.connect(client, properties.getConnections(), clientSideCache.getIfAvailable());
     }
 
     @Bean(destroyMethod = "shutdown")
@@ -56,15 +72,12 @@ public class RedisConfiguration {
 
     @Bean(destroyMethod = "close")
     @ConditionalOnProperty(prefix = "spring.redis", name = "host", matchIfMissing = true, havingValue = "null")
-    StatefulRedisClusterConnection<String, String> clusterConnection(RedisClusterClient client) {
-        return client.connect();
-    }
-
-    @Bean
-    @ConditionalOnProperty(prefix = "spring.redis", name = "host", matchIfMissing = true, havingValue = "null")
-    RedisStringReactiveCommands<String, String> clusterReactiveCommands(
-            StatefulRedisClusterConnection<String, String> connection) {
+    RedisCommandsPool clusterCommandsPool(RedisClusterClient client, RedisConfigurationProperties properties) {
+        if (properties.getClientCache().isEnabled()) {
+            throw new IllegalArgumentException("Redis client-side cache is only supported for a single Redis instance");
+        }
 
-        return connection.reactive();
+        return RedisCommandsPool.connect(
+                client, properties.getConnections(), RedisUtils.createReadFrom(properties.getCluster()));
     }
 }
@@ -12,7 +12,9 @@ public class RedisConfigurationProperties {
     private long timeout;
     private String password;
     private int port;
+    private int connections = 1;
     private Cluster cluster;
+    private ClientCache clientCache = new ClientCache();
 
     @Data
     public static class Cluster {
@@ -23,5 +25,17 @@ public class RedisConfigurationProperties {
         boolean enableTopologyRefresh;
 
         Integer topologyPeriodicRefreshPeriod;
+
+        String readFrom;
+    }
+
+    @Data
+    public static class ClientCache {
+
+        boolean enabled;
+
+        long maxSize = 100_000;
+
+        long maxTtlSec = 300;
     }
 }
@@ -1,21 +1,41 @@
 package org.prebid.cache.repository.redis;
 
+import io.lettuce.core.KeyValue;
 import io.lettuce.core.RedisException;
-import io.lettuce.core.api.reactive.RedisStringReactiveCommands;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.prebid.cache.exceptions.PayloadWrapperPropertyException;
 import org.prebid.cache.exceptions.RepositoryException;
-import org.prebid.cache.helpers.Json;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.repository.ReactiveRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 @Slf4j
-@RequiredArgsConstructor
 public class RedisRepositoryImpl implements ReactiveRepository<PayloadWrapper, String> {
-    private final RedisStringReactiveCommands<String, String> reactiveCommands;
+    private final RedisCommandsPool commandsPool;
+    private final PayloadWrapperCodec codec;
+    private final RedisClientSideCache clientSideCache;
+
+    public RedisRepositoryImpl(RedisCommandsPool commandsPool, PayloadWrapperCodec codec) {
+        this(commandsPool, codec, null);
+    }
+
+    public RedisRepositoryImpl(RedisCommandsPool commandsPool,
+                               PayloadWrapperCodec codec,
+                               RedisClientSideCache clientSideCache) {
+
+        this.commandsPool = commandsPool;
+        this.codec = codec;
+        this.clientSideCache = clientSideCache;
+    }
 
     @Override
     public Mono<PayloadWrapper> save(final PayloadWrapper wrapper) {
@@ -31,21 +51,89 @@ public class RedisRepositoryImpl implements ReactiveRepository<PayloadWrapper, S
             return Mono.empty();
         }
 
+        if (clientSideCache != null) {
+            clientSideCache.invalidate(normalizedId);
+        }
+
         try {
-            return reactiveCommands.setex(normalizedId, expiry, Json.toJson(wrapper))
+            return commandsPool.next().setex(normalizedId, expiry, codec.encode(wrapper))
                     .map(payload -> wrapper);
         } catch (RedisException e) {
             return Mono.error(new RepositoryException(e.toString(), e));
         }
     }
 
+    @Override
+    public Flux<PayloadWrapper> saveAll(final List<PayloadWrapper> wrappers) {
+        // commands are issued without awaiting previous replies, so Lettuce pipelines them over the pooled connections
+        return Flux.fromIterable(wrappers)
+                .flatMapSequential(this::save);
+    }
+
     @Override
     public Mono<PayloadWrapper> findById(final String id) {
+        if (clientSideCache != null) {
+            final PayloadWrapper cached = clientSideCache.get(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+        }
+
         try {
-            return reactiveCommands.get(id)
-                    .map(json -> Json.createPayloadFromJson(json, PayloadWrapper.class));
+            final Mono<PayloadWrapper> found = commandsPool.next().get(id)
+                    .map(codec::decode);
+            return clientSideCache != null
+                    ? found.doOnNext(wrapper -> clientSideCache.put(id, wrapper))
+                    : found;
         } catch (RedisException e) {
             return Mono.error(new RepositoryException(e.toString(), e));
         }
     }
+
+    @Override
+    public Flux<PayloadWrapper> findAllById(final List<String> ids) {
+        if (clientSideCache == null) {
+            return fetchAll(ids);
+        }
+
+        final Map<String, PayloadWrapper> found = new HashMap<>(ids.size());
+        final List<String> misses = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            final PayloadWrapper cached = clientSideCache.get(id);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+
+        final Flux<KeyValue<String, PayloadWrapper>> fetched = misses.isEmpty()
+                ? Flux.empty()
+                : fetchEntries(misses);
+
+        // hits and fetched values are returned in the order of the requested ids
+        return fetched
+                .doOnNext(entry -> found.put(entry.getKey(), entry.getValue()))
+                .thenMany(Flux.defer(() -> Flux.fromStream(ids.stream().map(found::get).filter(Objects::nonNull))));
+    }
+
+    private Flux<PayloadWrapper> fetchAll(final List<String> ids) {
+        return fetchEntries(ids).map(KeyValue::getValue);
+    }
+
+    private Flux<KeyValue<String, PayloadWrapper>> fetchEntries(final List<String> ids) {
+        try {
+            return commandsPool.next().mget(ids.toArray(String[]::new))
+                    .filter(KeyValue::hasValue)
+                    .map(keyValue -> {
+                        final PayloadWrapper wrapper = codec.decode(keyValue.getValue());
+                        if (clientSideCache != null) {
+                            clientSideCache.put(keyValue.getKey(), wrapper);
+                        }
+                        return KeyValue.just(keyValue.getKey(), wrapper);
+                    });
+        } catch (RedisException e) {
+            return Flux.error(new RepositoryException(e.toString(), e));
+        }
+    }
 }
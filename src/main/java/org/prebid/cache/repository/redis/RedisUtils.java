@@ -1,6 +1,7 @@
 package org.prebid.cache.repository.redis;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
@@ -53,4 +54,8 @@ public class RedisUtils {
                 .build();
     }
 
+    public static ReadFrom createReadFrom(RedisConfigurationProperties.Cluster cluster) {
+        return cluster.getReadFrom() != null ? ReadFrom.valueOf(cluster.getReadFrom()) : ReadFrom.UPSTREAM;
+    }
+
 }
@@ -1,12 +1,11 @@
 package org.prebid.cache.repository.redis.module.storage;
 
 import io.lettuce.core.RedisClient;
-import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.reactive.RedisStringReactiveCommands;
 import io.lettuce.core.cluster.RedisClusterClient;
-import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.repository.ReactiveRepository;
+import org.prebid.cache.repository.redis.RedisCommandsPool;
 import org.prebid.cache.repository.redis.RedisConfigurationProperties;
 import org.prebid.cache.repository.redis.RedisRepositoryImpl;
 import org.prebid.cache.repository.redis.RedisUtils;
@@ -20,39 +19,40 @@ import java.util.stream.Collectors;
 public class ModuleCompositeRepositoryConfiguration {
 
     @Bean
-    ModuleCompositeRepository moduleCompositeRepository(ModuleCompositeRedisConfigurationProperties properties) {
+    ModuleCompositeRepository moduleCompositeRepository(ModuleCompositeRedisConfigurationProperties properties,
+                                                        PayloadWrapperCodec payloadWrapperCodec) {
+
         final Map<String, ReactiveRepository<PayloadWrapper, String>> applicationToSource = properties.getRedis()
                 .entrySet().stream()
-                .map(entry -> Map.entry(entry.getKey(), getReactiveRepository(entry.getValue())))
+                .map(entry -> Map.entry(entry.getKey(), getReactiveRepository(entry.getValue(), payloadWrapperCodec)))
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
         return new ModuleCompositeRepository(applicationToSource);
     }
 
     private static ReactiveRepository<PayloadWrapper, String> getReactiveRepository(
-            RedisConfigurationProperties properties) {
+            RedisConfigurationProperties properties, PayloadWrapperCodec payloadWrapperCodec) {
 
-        final RedisStringReactiveCommands<String, String> reactiveCommands = properties.getHost() != null
-                ? getRedisConnection(properties).reactive()
-                : getClusterRedisConnection(properties).reactive();
+        final RedisCommandsPool commandsPool = properties.getHost() != null
+                ? getRedisCommandsPool(properties)
+                : getClusterRedisCommandsPool(properties);
 
-        return new RedisRepositoryImpl(reactiveCommands);
+        return new RedisRepositoryImpl(commandsPool, payloadWrapperCodec);
     }
 
-    private static StatefulRedisClusterConnection<String, String> getClusterRedisConnection(
-            RedisConfigurationProperties properties) {
-
+    private static RedisCommandsPool getClusterRedisCommandsPool(RedisConfigurationProperties properties) {
         final RedisClusterClient redisClusterClient = RedisClusterClient.create(RedisUtils.createRedisClusterURIs(
                 properties.getCluster(), properties.getTimeout(), properties.getPassword()));
         redisClusterClient.setOptions(RedisUtils.createRedisClusterOptions(properties.getCluster()));
 
-        return redisClusterClient.connect();
+        return RedisCommandsPool.connect(redisClusterClient, properties.getConnections(),
+                RedisUtils.createReadFrom(properties.getCluster()));
     }
 
-    private static StatefulRedisConnection<String, String> getRedisConnection(RedisConfigurationProperties properties) {
-        return RedisClient.create(RedisUtils.createRedisURI(
-                        properties.getHost(), properties.getPort(), properties.getTimeout(), properties.getPassword()))
-                .connect();
+    private static RedisCommandsPool getRedisCommandsPool(RedisConfigurationProperties properties) {
+        return RedisCommandsPool.connect(RedisClient.create(RedisUtils.createRedisURI(
+                        properties.getHost(), properties.getPort(), properties.getTimeout(), properties.getPassword())),
+                properties.getConnections());
     }
 
 }
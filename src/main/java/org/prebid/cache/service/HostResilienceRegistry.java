@@ -0,0 +1,65 @@
+package org.prebid.cache.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.function.Function;
+
+// Hands out a circuit breaker and a bulkhead per remote host, so that a failing or slow secondary cache or proxy
+// target is isolated from calls to the other hosts. Both are exported as resilience4j meters tagged by name.
+@Component
+public class HostResilienceRegistry {
+
+    private static final String NAME_PREFIX = "prebid-cache-web-client-";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public HostResilienceRegistry(CircuitBreakerRegistry circuitBreakerRegistry,
+                                  BulkheadRegistry bulkheadRegistry,
+                                  MeterRegistry meterRegistry) {
+
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    public CircuitBreaker circuitBreaker(String url) {
+        return circuitBreakerRegistry.circuitBreaker(name(url));
+    }
+
+    public Bulkhead bulkhead(String url) {
+        return bulkheadRegistry.bulkhead(name(url));
+    }
+
+    public <T> Function<Mono<T>, Mono<T>> guard(String url) {
+        final Bulkhead bulkhead = bulkhead(url);
+        final CircuitBreaker circuitBreaker = circuitBreaker(url);
+        return mono -> mono
+                .transform(BulkheadOperator.of(bulkhead))
+                .transform(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private static String name(String url) {
+        String host;
+        try {
+            host = URI.create(url).getAuthority();
+        } catch (IllegalArgumentException e) {
+            host = null;
+        }
+        return NAME_PREFIX + StringUtils.defaultIfEmpty(host, url);
+    }
+}
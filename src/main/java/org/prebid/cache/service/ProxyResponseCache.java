@@ -0,0 +1,73 @@
+package org.prebid.cache.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.prebid.cache.config.ProxyCacheConfig;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.ProxyResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+// Keeps successful responses of proxied fetches for a short time and lets concurrent fetches of the same key share
+// a single remote call. When disabled every fetch goes to the remote host.
+@Component
+public class ProxyResponseCache {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 256;
+
+    private final MetricsRecorder metricsRecorder;
+    private final Cache<String, ProxyResponse> cache;
+    private final ConcurrentMap<String, Mono<ProxyResponse>> inFlightFetches = new ConcurrentHashMap<>();
+
+    public ProxyResponseCache(ProxyCacheConfig config, MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        this.cache = config.isEnabled()
+                ? Caffeine.newBuilder()
+                        .maximumWeight(config.getMaxSizeBytes())
+                        .weigher(ProxyResponseCache::weigh)
+                        .expireAfterWrite(Duration.ofMillis(config.getTtlMs()))
+                        .build()
+                : null;
+    }
+
+    public Mono<ProxyResponse> get(String key, Supplier<Mono<ProxyResponse>> fetcher) {
+        if (cache == null) {
+            return fetcher.get();
+        }
+
+        return Mono.defer(() -> {
+            final ProxyResponse cached = cache.getIfPresent(key);
+            if (cached != null) {
+                metricsRecorder.getProxyCacheHit().increment();
+                return Mono.just(cached);
+            }
+
+            final Mono<ProxyResponse> fetch = Mono.defer(fetcher)
+                    .doOnNext(response -> {
+                        if (response.getStatus().is2xxSuccessful()) {
+                            cache.put(key, response);
+                        }
+                    })
+                    .cache();
+            final Mono<ProxyResponse> inFlightFetch = inFlightFetches.putIfAbsent(key, fetch);
+            if (inFlightFetch != null) {
+                metricsRecorder.getProxyCoalesced().increment();
+            } else {
+                metricsRecorder.getProxyCacheMiss().increment();
+            }
+
+            final Mono<ProxyResponse> sharedFetch = inFlightFetch != null ? inFlightFetch : fetch;
+            return sharedFetch.doFinally(signal -> inFlightFetches.remove(key, sharedFetch));
+        });
+    }
+
+    private static int weigh(String key, ProxyResponse response) {
+        final String body = response.getBody();
+        return ENTRY_OVERHEAD_BYTES + key.length() + (body != null ? body.length() : 0);
+    }
+}
@@ -0,0 +1,267 @@
+package org.prebid.cache.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.prebid.cache.helpers.Json;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.PayloadTransfer;
+import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.model.RequestObject;
+import org.prebid.cache.routers.ApiConfig;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Pending writes to one secondary cache host. Entries are queued by the request path and sent in batches by the
+// replicator; when the host can't take them and a spill file is configured they are appended to it and replayed
+// later, keeping their original expiry.
+@Slf4j
+class SecondaryCacheOutbox {
+
+    private static final String API_KEY_HEADER = "x-pbc-api-key";
+
+    private final String url;
+    private final WebClient webClient;
+    private final String secondaryCachePath;
+    private final ApiConfig apiConfig;
+    private final int batchSize;
+    private final BlockingQueue<Entry> queue;
+    private final Path spillFile;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MetricsRecorder metricsRecorder;
+
+    SecondaryCacheOutbox(String url,
+                         WebClient webClient,
+                         String secondaryCachePath,
+                         ApiConfig apiConfig,
+                         int batchSize,
+                         int queueCapacity,
+                         Path spillFile,
+                         CircuitBreaker circuitBreaker,
+                         Bulkhead bulkhead,
+                         MetricsRecorder metricsRecorder) {
+
+        this.url = url;
+        this.webClient = webClient;
+        this.secondaryCachePath = secondaryCachePath;
+        this.apiConfig = apiConfig;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.spillFile = spillFile;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.metricsRecorder = metricsRecorder;
+
+        metricsRecorder.registerSecondaryQueueSize(url, queue);
+    }
+
+    void enqueue(List<PayloadWrapper> wrappers) {
+        final long now = System.currentTimeMillis();
+        final List<Entry> rejected = new ArrayList<>();
+        for (PayloadWrapper wrapper : wrappers) {
+            final Entry entry = Entry.of(wrapper.getId(), wrapper.getPayload().getType(),
+                    wrapper.getPayload().getValue(), now + TimeUnit.SECONDS.toMillis(wrapper.getExpiry()));
+            if (!queue.offer(entry)) {
+                rejected.add(entry);
+            }
+        }
+
+        if (!rejected.isEmpty()) {
+            spillOrDrop(rejected).subscribe();
+        }
+    }
+
+    // batches are sent concurrently, as many as the host bulkhead lets through
+    Mono<Void> flush() {
+        return Flux.generate(this::nextBatch)
+                .flatMap(this::send, bulkhead.getBulkheadConfig().getMaxConcurrentCalls())
+                .then();
+    }
+
+    private void nextBatch(SynchronousSink<List<Entry>> sink) {
+        final List<Entry> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+        if (batch.isEmpty()) {
+            sink.complete();
+        } else {
+            sink.next(batch);
+        }
+    }
+
+    Mono<Void> replay() {
+        if (spillFile == null || circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            return Mono.empty();
+        }
+
+        return Mono.fromCallable(this::takeSpilledEntries)
+                .subscribeOn(Schedulers.boundedElastic())
+                .filter(entries -> !entries.isEmpty())
+                .doOnNext(entries -> {
+                    log.info("Replaying {} spilled entries to secondary cache {}", entries.size(), url);
+                    metricsRecorder.getSecondaryReplayed().increment(entries.size());
+                    final List<Entry> rejected = new ArrayList<>();
+                    entries.stream().filter(entry -> !queue.offer(entry)).forEach(rejected::add);
+                    if (!rejected.isEmpty()) {
+                        appendToSpillFile(rejected);
+                    }
+                })
+                .then();
+    }
+
+    Mono<Void> close() {
+        if (spillFile == null) {
+            return flush();
+        }
+
+        final List<Entry> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        return pending.isEmpty() ? Mono.empty() : spillOrDrop(pending);
+    }
+
+    private Mono<Void> send(List<Entry> batch) {
+        final long now = System.currentTimeMillis();
+        final List<PayloadTransfer> transfers = batch.stream()
+                .filter(entry -> entry.getExpiresAt() > now)
+                .map(entry -> entry.toTransfer(now))
+                .toList();
+        if (transfers.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return webClient.post()
+                .uri(uriBuilder -> uriBuilder.path(secondaryCachePath)
+                        .queryParam("secondaryCache", "yes").build())
+                .contentType(MediaType.APPLICATION_JSON)
+                .headers(httpHeaders -> {
+                    final String apiKey = apiConfig.getApiKey();
+                    if (apiKey != null) {
+                        httpHeaders.set(API_KEY_HEADER, apiKey);
+                    }
+                })
+                .bodyValue(RequestObject.of(transfers))
+                .exchangeToMono(clientResponse -> {
+                    final Outcome outcome = Outcome.of(clientResponse.statusCode());
+                    if (outcome != Outcome.SENT) {
+                        log.error("Failed to write to remote address: {}, status: {}", url,
+                                clientResponse.statusCode());
+                    }
+                    return clientResponse.releaseBody().thenReturn(outcome);
+                })
+                .transform(BulkheadOperator.of(bulkhead))
+                .transform(CircuitBreakerOperator.of(circuitBreaker))
+                .onErrorResume(throwable -> {
+                    log.error("Failed to send request: '{}', cause: '{}'",
+                            ExceptionUtils.getMessage(throwable), ExceptionUtils.getMessage(throwable));
+                    return Mono.just(Outcome.FAILED);
+                })
+                .flatMap(outcome -> {
+                    if (outcome == Outcome.SENT) {
+                        return Mono.empty();
+                    }
+                    metricsRecorder.getSecondaryCacheWriteError().increment();
+                    return outcome == Outcome.REJECTED ? sendEachOrDrop(batch) : spillOrDrop(batch);
+                });
+    }
+
+    // a batch the host refuses would be refused again on replay, so it is not spilled; its entries are sent one by
+    // one instead, so that an entry the host can't take, such as a duplicate key, doesn't hold back the others
+    private Mono<Void> sendEachOrDrop(List<Entry> batch) {
+        if (batch.size() == 1) {
+            metricsRecorder.getSecondaryDropped().increment();
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(batch)
+                .flatMap(entry -> send(List.of(entry)), bulkhead.getBulkheadConfig().getMaxConcurrentCalls())
+                .then();
+    }
+
+    private Mono<Void> spillOrDrop(List<Entry> entries) {
+        if (spillFile == null) {
+            metricsRecorder.getSecondaryDropped().increment(entries.size());
+            return Mono.empty();
+        }
+
+        return Mono.fromRunnable(() -> appendToSpillFile(entries))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private synchronized void appendToSpillFile(List<Entry> entries) {
+        final List<String> lines = entries.stream().map(Json::toJson).toList();
+        try {
+            Files.write(spillFile, lines, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            metricsRecorder.getSecondarySpilled().increment(entries.size());
+        } catch (IOException e) {
+            metricsRecorder.getSecondaryDropped().increment(entries.size());
+            log.error("Failed to spill {} entries for secondary cache {}, cause: '{}'",
+                    entries.size(), url, ExceptionUtils.getMessage(e));
+        }
+    }
+
+    private synchronized List<Entry> takeSpilledEntries() throws IOException {
+        if (!Files.exists(spillFile)) {
+            return Collections.emptyList();
+        }
+
+        final List<String> lines = Files.readAllLines(spillFile);
+        Files.delete(spillFile);
+
+        final long now = System.currentTimeMillis();
+        return lines.stream()
+                .map(line -> Json.createPayloadFromJson(line, Entry.class))
+                .filter(entry -> entry.getExpiresAt() > now)
+                .toList();
+    }
+
+    private enum Outcome {
+        SENT, REJECTED, FAILED;
+
+        static Outcome of(HttpStatusCode status) {
+            if (status == HttpStatus.OK) {
+                return SENT;
+            }
+            return status.is4xxClientError() ? REJECTED : FAILED;
+        }
+    }
+
+    @Value(staticConstructor = "of")
+    static class Entry {
+        String id;
+        String type;
+        String value;
+        long expiresAt;
+
+        PayloadTransfer toTransfer(long now) {
+            final long remainingSec = TimeUnit.MILLISECONDS.toSeconds(expiresAt - now + 999);
+            return PayloadTransfer.builder()
+                    .key(id)
+                    .type(type)
+                    .value(value)
+                    .expiry(remainingSec)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.prebid.cache.service;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.prebid.cache.config.ReplicationConfig;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.repository.CacheConfig;
+import org.prebid.cache.routers.ApiConfig;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class SecondaryCacheReplicator implements DisposableBean {
+
+    private static final String SPILL_FILE_EXTENSION = ".spill";
+
+    private final List<SecondaryCacheOutbox> outboxes;
+    private final Duration closeTimeout;
+    private final Disposable.Composite schedules = Disposables.composite();
+
+    public SecondaryCacheReplicator(CacheConfig config,
+                                    ReplicationConfig replicationConfig,
+                                    ApiConfig apiConfig,
+                                    MetricsRecorder metricsRecorder,
+                                    HostResilienceRegistry hostResilienceRegistry,
+                                    HttpClient httpClient) {
+
+        final Path spillDir = resolveSpillDir(replicationConfig.getSpillDir());
+        this.outboxes = config.getSecondaryUris() == null
+                ? List.of()
+                : config.getSecondaryUris().stream()
+                        .map(url -> new SecondaryCacheOutbox(
+                                url,
+                                createWebClient(httpClient, url, config.getSecondaryCacheTimeoutMs()),
+                                config.getSecondaryCachePath(),
+                                apiConfig,
+                                replicationConfig.getBatchSize(),
+                                replicationConfig.getQueueCapacity(),
+                                spillDir != null ? spillDir.resolve(toFileName(url)) : null,
+                                hostResilienceRegistry.circuitBreaker(url),
+                                hostResilienceRegistry.bulkhead(url),
+                                metricsRecorder))
+                        .toList();
+        this.closeTimeout = Duration.ofMillis(config.getSecondaryCacheTimeoutMs());
+
+        outboxes.forEach(outbox -> {
+            schedule(Duration.ofMillis(replicationConfig.getFlushIntervalMs()), outbox::flush);
+            if (spillDir != null) {
+                schedule(Duration.ofSeconds(replicationConfig.getReplayIntervalSec()), outbox::replay);
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return !outboxes.isEmpty();
+    }
+
+    public void replicate(List<PayloadWrapper> payloadWrappers) {
+        outboxes.forEach(outbox -> outbox.enqueue(payloadWrappers));
+    }
+
+    @Override
+    public void destroy() {
+        schedules.dispose();
+        Flux.fromIterable(outboxes)
+                .flatMap(SecondaryCacheOutbox::close)
+                .then()
+                .block(closeTimeout);
+    }
+
+    private void schedule(Duration interval, Supplier<Mono<Void>> task) {
+        schedules.add(Flux.interval(interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> task.get())
+                .onErrorContinue((throwable, o) -> log.error(
+                        "Failed during secondary cache replication: " + throwable.getMessage(), throwable))
+                .subscribe());
+    }
+
+    private static Path resolveSpillDir(String spillDir) {
+        if (StringUtils.isBlank(spillDir)) {
+            return null;
+        }
+
+        try {
+            return Files.createDirectories(Path.of(spillDir));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create secondary cache spill directory " + spillDir, e);
+        }
+    }
+
+    private static String toFileName(String url) {
+        return url.replaceAll("[^A-Za-z0-9.-]", "_") + SPILL_FILE_EXTENSION;
+    }
+
+    private static WebClient createWebClient(HttpClient sharedHttpClient, String url, int timeoutMs) {
+        final HttpClient httpClient = sharedHttpClient
+                .responseTimeout(Duration.ofMillis(timeoutMs))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeoutMs);
+
+        return WebClient.builder()
+                .baseUrl(url)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
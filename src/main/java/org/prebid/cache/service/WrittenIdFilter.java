@@ -0,0 +1,107 @@
+package org.prebid.cache.service;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.Value;
+import org.prebid.cache.config.WrittenIdFilterConfig;
+import org.prebid.cache.repository.CacheConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+// Remembers ids written through this node in Bloom filters covering consecutive time slices, so that reads of ids
+// that were never written can be answered without a storage lookup. Together the slices always cover the last
+// max_expiry, and an older slice is dropped once every entry it could know about has expired. The filter only
+// answers after it has been populated for a full max_expiry, before that and when disabled every id might exist.
+@Component
+public class WrittenIdFilter {
+
+    private final boolean enabled;
+    private final long sliceDurationMs;
+    private final int maxSlices;
+    private final long expectedInsertionsPerSlice;
+    private final double falsePositiveRate;
+    private final long readyAt;
+    private final LongSupplier clock;
+
+    private volatile List<Slice> slices;
+
+    @Autowired
+    public WrittenIdFilter(WrittenIdFilterConfig config, CacheConfig cacheConfig) {
+        this(config, cacheConfig, System::currentTimeMillis);
+    }
+
+    WrittenIdFilter(WrittenIdFilterConfig config, CacheConfig cacheConfig, LongSupplier clock) {
+        final long windowMs = cacheConfig.getMaxExpiry() * 1000;
+        final int sliceCount = Math.max(config.getSlices(), 1);
+
+        this.enabled = config.isEnabled();
+        this.sliceDurationMs = Math.max(windowMs / sliceCount, 1);
+        this.maxSlices = sliceCount + 1;
+        this.expectedInsertionsPerSlice = config.getExpectedInsertionsPerSlice();
+        this.falsePositiveRate = config.getFalsePositiveRate();
+        this.readyAt = clock.getAsLong() + windowMs;
+        this.clock = clock;
+        this.slices = List.of();
+    }
+
+    public void put(String normalizedId) {
+        if (enabled) {
+            currentSlices(clock.getAsLong()).get(0).getFilter().put(normalizedId);
+        }
+    }
+
+    public boolean mightContain(String normalizedId) {
+        final long now = clock.getAsLong();
+        if (!enabled || now < readyAt) {
+            return true;
+        }
+
+        for (Slice slice : currentSlices(now)) {
+            if (slice.getFilter().mightContain(normalizedId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<Slice> currentSlices(long now) {
+        final List<Slice> current = slices;
+        if (!current.isEmpty() && now < current.get(0).getStart() + sliceDurationMs) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (slices.isEmpty() || now >= slices.get(0).getStart() + sliceDurationMs) {
+                slices = rotate(slices, now);
+            }
+            return slices;
+        }
+    }
+
+    private List<Slice> rotate(List<Slice> current, long now) {
+        final long start = now - now % sliceDurationMs;
+        final List<Slice> rotated = new ArrayList<>(maxSlices);
+        rotated.add(Slice.of(start, BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertionsPerSlice, falsePositiveRate)));
+
+        for (Slice slice : current) {
+            if (rotated.size() < maxSlices && slice.getStart() > start - maxSlices * sliceDurationMs) {
+                rotated.add(slice);
+            }
+        }
+        return List.copyOf(rotated);
+    }
+
+    @Value(staticConstructor = "of")
+    private static class Slice {
+
+        long start;
+
+        BloomFilter<CharSequence> filter;
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.prebid.cache.exceptions.BadRequestException;
 import org.prebid.cache.exceptions.RepositoryException;
 import org.prebid.cache.exceptions.ResourceNotFoundException;
+import org.prebid.cache.helpers.PayloadCompression;
 import org.prebid.cache.model.Payload;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.routers.ApiConfig;
@@ -14,18 +15,26 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.reactive.result.view.ViewResolver;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Signal;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
@@ -131,6 +140,118 @@ class PrebidServerResponseBuilderTests extends PayloadWrapperResponseTests {
         verifyServerResponse(APPLICATION_JSON, requestHeaders, responseHeaders);
     }
 
+    @Test
+    void verifyCommonHeaders() {
+        final var request = MockServerRequest.builder().header(HttpHeaders.CONNECTION, "Keep-Alive").build();
+
+        StepVerifier.create(builder.createResponseMono(request, APPLICATION_XML, xmlPayloadWrapper))
+                .assertNext(response -> {
+                    final HttpHeaders headers = response.headers();
+                    assertTrue(headers.getFirst(HttpHeaders.DATE).endsWith(" GMT"));
+                    assertTrue(headers.getDate() > 0);
+                    assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), headers.getVary());
+                    assertEquals("no-cache", headers.getCacheControl());
+                    assertEquals(List.of("keep-alive"), headers.getConnection());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void verifyPayloadValueIsWrittenAsUtf8Bytes() {
+        final var value = "<VAST version=\"3.0\"><Ad id=\"ünïcødé\"/></VAST>";
+        final var wrapper = PayloadWrapper.builder()
+                .id("")
+                .prefix("prefix")
+                .payload(Payload.of("xml", "1234567890", value))
+                .build();
+        final var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/cache"));
+
+        StepVerifier.create(builder.createResponseMono(MockServerRequest.builder().build(), APPLICATION_XML, wrapper)
+                        .flatMap(response -> response.writeTo(exchange, messageWritersContext())))
+                .verifyComplete();
+
+        final byte[] expectedBytes = value.getBytes(StandardCharsets.UTF_8);
+        assertEquals(expectedBytes.length, exchange.getResponse().getHeaders().getContentLength());
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext(value)
+                .verifyComplete();
+    }
+
+    @Test
+    void verifyStoredValueBytesAreWrittenAsTheyAre() {
+        final var valueBytes = XML_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        final var wrapper = PayloadWrapper.builder()
+                .id("")
+                .prefix("prefix")
+                .payload(Payload.of("xml", "1234567890", null))
+                .valueBytes(valueBytes)
+                .build();
+        final var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/cache"));
+
+        StepVerifier.create(builder.createResponseMono(MockServerRequest.builder().build(), APPLICATION_XML, wrapper)
+                        .flatMap(response -> response.writeTo(exchange, messageWritersContext())))
+                .verifyComplete();
+
+        assertEquals(valueBytes.length, exchange.getResponse().getHeaders().getContentLength());
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext(XML_RESPONSE)
+                .verifyComplete();
+    }
+
+    @Test
+    void verifyGzippedPayloadIsSentAsIsWhenAccepted() {
+        final var wrapper = givenGzippedWrapper(XML_RESPONSE);
+        final var request = MockServerRequest.builder().header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate").build();
+        final var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/cache"));
+
+        StepVerifier.create(builder.createResponseMono(request, APPLICATION_XML, wrapper)
+                        .flatMap(response -> response.writeTo(exchange, messageWritersContext())))
+                .verifyComplete();
+
+        final HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(wrapper.getGzippedValue().length, headers.getContentLength());
+    }
+
+    @Test
+    void verifyGzippedPayloadIsDecompressedWhenNotAccepted() {
+        final var wrapper = givenGzippedWrapper(XML_RESPONSE);
+        final var request = MockServerRequest.builder().header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0").build();
+        final var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/cache"));
+
+        StepVerifier.create(builder.createResponseMono(request, APPLICATION_XML, wrapper)
+                        .flatMap(response -> response.writeTo(exchange, messageWritersContext())))
+                .verifyComplete();
+
+        assertNull(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        StepVerifier.create(exchange.getResponse().getBodyAsString())
+                .expectNext(XML_RESPONSE)
+                .verifyComplete();
+    }
+
+    private static PayloadWrapper givenGzippedWrapper(String value) {
+        return PayloadWrapper.builder()
+                .id("")
+                .prefix("prefix")
+                .payload(Payload.of("xml", "1234567890", null))
+                .gzippedValue(PayloadCompression.gzip(value))
+                .build();
+    }
+
+    private static ServerResponse.Context messageWritersContext() {
+        return new ServerResponse.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return HandlerStrategies.withDefaults().messageWriters();
+            }
+
+            @Override
+            public List<ViewResolver> viewResolvers() {
+                return List.of();
+            }
+        };
+    }
+
     @Test
     void verifyNotFound() { verifyErrorResponse(HttpStatus.NOT_FOUND); }
 
@@ -0,0 +1,74 @@
+package org.prebid.cache.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HttpClientConfigTest {
+
+    private HttpClientConfig target;
+
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    public void setUp() {
+        target = new HttpClientConfig();
+        target.setMaxConnections(42);
+        target.setPendingAcquireMaxCount(100);
+        target.setPendingAcquireTimeoutMs(500L);
+        target.setMaxIdleTimeMs(30000L);
+        target.setMaxLifeTimeMs(60000L);
+        target.setEvictInBackgroundMs(10000L);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    @Test
+    public void connectionProviderShouldBeNamedAndSizedFromConfiguration() {
+        // when
+        connectionProvider = target.connectionProvider();
+
+        // then
+        assertThat(connectionProvider.name()).isEqualTo("prebid-cache");
+        assertThat(connectionProvider.maxConnections()).isEqualTo(42);
+    }
+
+    @Test
+    public void httpClientShouldUseConfiguredProtocols() {
+        // given
+        target.setProtocols(List.of(HttpProtocol.H2C, HttpProtocol.HTTP11));
+        connectionProvider = target.connectionProvider();
+
+        // when
+        final HttpClient httpClient = target.httpClient(connectionProvider);
+
+        // then
+        assertThat(httpClient.configuration().protocols())
+                .containsExactlyInAnyOrder(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        assertThat(httpClient.configuration().connectionProvider()).isSameAs(connectionProvider);
+    }
+
+    @Test
+    public void httpClientShouldKeepDefaultProtocolWhenNoneConfigured() {
+        // given
+        connectionProvider = target.connectionProvider();
+
+        // when
+        final HttpClient httpClient = target.httpClient(connectionProvider);
+
+        // then
+        assertThat(httpClient.configuration().protocols()).containsExactly(HttpProtocol.HTTP11);
+    }
+}
@@ -1,13 +1,15 @@
 package org.prebid.cache.handlers;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.prebid.cache.builders.PrebidServerResponseBuilder;
 import org.prebid.cache.config.CircuitBreakerPropertyConfiguration;
+import org.prebid.cache.config.HttpClientConfig;
+import org.prebid.cache.config.ProxyCacheConfig;
+import org.prebid.cache.config.WrittenIdFilterConfig;
 import org.prebid.cache.handlers.cache.GetCacheHandler;
 import org.prebid.cache.metrics.MetricsRecorder;
 import org.prebid.cache.metrics.MetricsRecorderTest;
@@ -15,6 +17,9 @@ import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.repository.CacheConfig;
 import org.prebid.cache.repository.ReactiveRepository;
 import org.prebid.cache.routers.ApiConfig;
+import org.prebid.cache.service.HostResilienceRegistry;
+import org.prebid.cache.service.ProxyResponseCache;
+import org.prebid.cache.service.WrittenIdFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -27,22 +32,31 @@ import org.springframework.mock.web.reactive.function.server.MockServerRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Signal;
+import reactor.netty.http.client.HttpClient;
 import reactor.test.StepVerifier;
 
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToIgnoreCase;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
 import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.notMatching;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.verify;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 
 @ExtendWith(SpringExtension.class)
@@ -54,14 +68,29 @@ import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
         MetricsRecorderTest.class,
         MetricsRecorder.class,
         ApiConfig.class,
-        CircuitBreakerPropertyConfiguration.class
+        CircuitBreakerPropertyConfiguration.class,
+        HostResilienceRegistry.class,
+        HttpClientConfig.class,
+        ProxyCacheConfig.class,
+        ProxyResponseCache.class,
+        WrittenIdFilterConfig.class,
+        WrittenIdFilter.class
 })
 @EnableConfigurationProperties
 @SpringBootTest
 class GetCacheHandlerTests extends CacheHandlerTests {
 
     @Autowired
-    CircuitBreaker webClientCircuitBreaker;
+    HostResilienceRegistry hostResilienceRegistry;
+
+    @Autowired
+    HttpClient httpClient;
+
+    @Autowired
+    ProxyResponseCache proxyResponseCache;
+
+    @Autowired
+    WrittenIdFilter writtenIdFilter;
 
     @Autowired
     CacheConfig cacheConfig;
@@ -93,7 +122,10 @@ class GetCacheHandlerTests extends CacheHandlerTests {
                 apiConfig,
                 metricsRecorder,
                 responseBuilder,
-                webClientCircuitBreaker,
+                hostResilienceRegistry,
+                httpClient,
+                proxyResponseCache,
+                writtenIdFilter,
                 samplingRate);
         serverMock = new WireMockServer(8080);
         serverMock.start();
@@ -157,6 +189,57 @@ class GetCacheHandlerTests extends CacheHandlerTests {
         );
     }
 
+    @Test
+    void testVerifySharedProxyFetchDoesNotForwardOrReplayCallerSpecificHeaders() {
+        //given
+        final var cachingHandler = new GetCacheHandler(
+                repository,
+                cacheConfig,
+                apiConfig,
+                metricsRecorder,
+                responseBuilder,
+                hostResilienceRegistry,
+                httpClient,
+                new ProxyResponseCache(new ProxyCacheConfig(true, 60_000L, 1_000_000L), metricsRecorder),
+                writtenIdFilter,
+                samplingRate);
+        serverMock.stubFor(get(urlPathEqualTo("/cache"))
+                .willReturn(aResponse().withHeader(HttpHeaders.CONTENT_TYPE, "application/json;charset=utf-8")
+                        .withHeader(HttpHeaders.SET_COOKIE, "session=first")
+                        .withBody("{\"uuid\":\"2be04ba5-8f9b-4a1e-8100-d573c40312f8\"}")));
+
+        final var firstRequest = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .header(HttpHeaders.COOKIE, "session=first")
+                .queryParam("uuid", "0b4c8e3a-5c2d-4a8e-9f1b-3d6e7a8b9c0d")
+                .queryParam("ch", "localhost:8080")
+                .build();
+        final var secondRequest = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .header(HttpHeaders.ACCEPT_ENCODING, "identity")
+                .header(HttpHeaders.COOKIE, "session=second")
+                .queryParam("uuid", "0b4c8e3a-5c2d-4a8e-9f1b-3d6e7a8b9c0d")
+                .queryParam("ch", "localhost:8080")
+                .build();
+
+        //when
+        final var firstResponse = cachingHandler.fetch(firstRequest).block();
+        final var secondResponse = cachingHandler.fetch(secondRequest).block();
+
+        //then
+        for (ServerResponse response : List.of(firstResponse, secondResponse)) {
+            assertEquals(200, response.statusCode().value());
+            assertEquals(MediaType.APPLICATION_JSON_UTF8, response.headers().getContentType());
+            assertFalse(response.headers().containsKey(HttpHeaders.SET_COOKIE));
+            assertFalse(response.headers().containsKey(HttpHeaders.CONTENT_LENGTH));
+        }
+        verify(1, getRequestedFor(urlPathEqualTo("/cache"))
+                .withQueryParam("uuid", equalTo("0b4c8e3a-5c2d-4a8e-9f1b-3d6e7a8b9c0d"))
+                .withoutHeader(HttpHeaders.COOKIE)
+                .withHeader(HttpHeaders.ACCEPT_ENCODING, absent().or(notMatching(".*gzip.*"))));
+    }
+
     @Test
     void testVerifyFailForNotFoundResourceWithCacheHostParam() {
         final var requestMono = MockServerRequest.builder()
@@ -235,6 +318,86 @@ class GetCacheHandlerTests extends CacheHandlerTests {
                 .verify();
     }
 
+    @Test
+    void testVerifyFetchAll() {
+        given(repository.findAllById(List.of(
+                "prebid_2be04ba5-8f9b-4a1e-8100-d573c40312f8",
+                "prebid_a8db2208-d085-444c-9721-c1161d7f09ce")))
+                .willReturn(Flux.just(PAYLOAD_WRAPPER));
+
+        final var requestMono = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .queryParam("uuids", "2be04ba5-8f9b-4a1e-8100-d573c40312f8, a8db2208-d085-444c-9721-c1161d7f09ce")
+                .build();
+
+        StepVerifier.create(handler.fetch(requestMono))
+                .consumeNextWith(response -> assertEquals(200, response.statusCode().value()))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void testVerifyFetchAllReturnsBadRequestWhenTooManyUuids() {
+        final var uuids = IntStream.rangeClosed(0, cacheConfig.getMaxBatchFetchSize())
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        final var requestMono = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .queryParam("uuids", uuids)
+                .build();
+
+        StepVerifier.create(handler.fetch(requestMono))
+                .consumeNextWith(assertBadRequestStatusCode())
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    void testVerifyFetchReturnsBadRequestForInvalidUuidWithoutRepositoryCall() {
+        final var requestMono = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .queryParam("uuid", "invalid/uuid")
+                .build();
+
+        StepVerifier.create(handler.fetch(requestMono))
+                .consumeNextWith(assertBadRequestStatusCode())
+                .expectComplete()
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testVerifyFetchReturnsBadRequestForDeduplicatedContentKey() {
+        final var requestMono = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .queryParam("uuid", "sha256:47DEQpj8HBSa-_TImW-5JCeuQeRkm5NMpJWZG3hSuFU")
+                .build();
+
+        StepVerifier.create(handler.fetch(requestMono))
+                .consumeNextWith(assertBadRequestStatusCode())
+                .expectComplete()
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void testVerifyFetchReturnsBadRequestForTooLongUuid() {
+        final var requestMono = MockServerRequest.builder()
+                .method(HttpMethod.GET)
+                .queryParam("uuid", "a".repeat(cacheConfig.getMaxUuidLength() + 1))
+                .build();
+
+        StepVerifier.create(handler.fetch(requestMono))
+                .consumeNextWith(assertBadRequestStatusCode())
+                .expectComplete()
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
     private static Consumer<Signal<ServerResponse>> assertSignalStatusCode(int statusCode) {
         return signal -> {
             assertTrue(signal.isOnComplete());
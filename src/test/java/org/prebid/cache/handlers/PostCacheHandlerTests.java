@@ -2,22 +2,28 @@ package org.prebid.cache.handlers;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.matching.RequestPatternBuilder;
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.prebid.cache.builders.PrebidServerResponseBuilder;
 import org.prebid.cache.config.CircuitBreakerPropertyConfiguration;
+import org.prebid.cache.config.HttpClientConfig;
+import org.prebid.cache.config.ReplicationConfig;
+import org.prebid.cache.config.WrittenIdFilterConfig;
 import org.prebid.cache.exceptions.DuplicateKeyException;
 import org.prebid.cache.handlers.cache.PostCacheHandler;
 import org.prebid.cache.metrics.MetricsRecorder;
 import org.prebid.cache.metrics.MetricsRecorderTest;
+import org.prebid.cache.model.Payload;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.model.RequestObject;
 import org.prebid.cache.repository.CacheConfig;
 import org.prebid.cache.repository.ReactiveRepository;
 import org.prebid.cache.routers.ApiConfig;
+import org.prebid.cache.service.HostResilienceRegistry;
+import org.prebid.cache.service.SecondaryCacheReplicator;
+import org.prebid.cache.service.WrittenIdFilter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -30,11 +36,13 @@ import org.springframework.mock.web.reactive.function.server.MockServerRequest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -45,7 +53,11 @@ import static com.github.tomakehurst.wiremock.client.WireMock.post;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.prebid.cache.util.AwaitilityUtil.awaitAndVerify;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
 
@@ -57,7 +69,13 @@ import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
         MetricsRecorderTest.class,
         MetricsRecorder.class,
         ApiConfig.class,
-        CircuitBreakerPropertyConfiguration.class
+        CircuitBreakerPropertyConfiguration.class,
+        ReplicationConfig.class,
+        SecondaryCacheReplicator.class,
+        HostResilienceRegistry.class,
+        HttpClientConfig.class,
+        WrittenIdFilterConfig.class,
+        WrittenIdFilter.class
 })
 @EnableConfigurationProperties
 @SpringBootTest
@@ -73,7 +91,10 @@ class PostCacheHandlerTests extends CacheHandlerTests {
     CacheConfig cacheConfig;
 
     @Autowired
-    CircuitBreaker webClientCircuitBreaker;
+    SecondaryCacheReplicator secondaryCacheReplicator;
+
+    @Autowired
+    WrittenIdFilter writtenIdFilter;
 
     @MockBean
     Supplier<Date> currentDateProvider;
@@ -94,7 +115,8 @@ class PostCacheHandlerTests extends CacheHandlerTests {
                 cacheConfig,
                 metricsRecorder,
                 builder,
-                webClientCircuitBreaker,
+                secondaryCacheReplicator,
+                writtenIdFilter,
                 samplingRate,
                 apiConfig);
         verifyJacksonError(handler);
@@ -117,10 +139,10 @@ class PostCacheHandlerTests extends CacheHandlerTests {
     @Test
     void testVerifySave() {
         given(currentDateProvider.get()).willReturn(new Date(100));
-        given(repository.save(PAYLOAD_WRAPPER)).willReturn(Mono.just(PAYLOAD_WRAPPER));
+        given(repository.saveAll(List.of(PAYLOAD_WRAPPER))).willReturn(Flux.just(PAYLOAD_WRAPPER));
 
         final PostCacheHandler handler = new PostCacheHandler(repository, cacheConfig, metricsRecorder, builder,
-                webClientCircuitBreaker, samplingRate, apiConfig);
+                secondaryCacheReplicator, writtenIdFilter, samplingRate, apiConfig);
 
         final Mono<RequestObject> request = Mono.just(RequestObject.of(Collections.singletonList(PAYLOAD_TRANSFER)));
         final MockServerRequest requestMono = MockServerRequest.builder()
@@ -139,16 +161,47 @@ class PostCacheHandlerTests extends CacheHandlerTests {
                 .verify();
     }
 
+    @Test
+    void testVerifySaveStoresAllPutsInSingleRepositoryCall() {
+        final var secondTransfer = PAYLOAD_TRANSFER.toBuilder().key("a8db2208-d085-444c-9721-c1161d7f09ce").build();
+        final var secondWrapper = PayloadWrapper.builder()
+                .id("a8db2208-d085-444c-9721-c1161d7f09ce")
+                .prefix("prebid_")
+                .payload(Payload.of("json", "a8db2208-d085-444c-9721-c1161d7f09ce", ""))
+                .expiry(1800L)
+                .isExternalId(true)
+                .build();
+        given(repository.saveAll(List.of(PAYLOAD_WRAPPER, secondWrapper)))
+                .willReturn(Flux.just(PAYLOAD_WRAPPER, secondWrapper));
+
+        final PostCacheHandler handler = new PostCacheHandler(repository, cacheConfig, metricsRecorder, builder,
+                secondaryCacheReplicator, writtenIdFilter, samplingRate, apiConfig);
+
+        final Mono<RequestObject> request = Mono.just(RequestObject.of(List.of(PAYLOAD_TRANSFER, secondTransfer)));
+        final MockServerRequest requestMono = MockServerRequest.builder()
+                .method(HttpMethod.POST)
+                .header(CONTENT_TYPE, MediaType.APPLICATION_JSON_UTF8_VALUE)
+                .body(request);
+
+        StepVerifier.create(handler.save(requestMono))
+                .consumeNextWith(serverResponse -> assertEquals(200, serverResponse.statusCode().value()))
+                .expectComplete()
+                .verify();
+
+        verify(repository).saveAll(List.of(PAYLOAD_WRAPPER, secondWrapper));
+        verify(repository, never()).save(any());
+    }
+
     @Test
     void testSecondaryCacheSuccess() {
         given(currentDateProvider.get()).willReturn(new Date(100));
-        given(repository.save(PAYLOAD_WRAPPER)).willReturn(Mono.just(PAYLOAD_WRAPPER));
+        given(repository.saveAll(List.of(PAYLOAD_WRAPPER))).willReturn(Flux.just(PAYLOAD_WRAPPER));
 
         serverMock.stubFor(post(urlPathEqualTo("/cache"))
                 .willReturn(aResponse().withBody("{\"responses\":[{\"uuid\":\"2be04ba5-8f9b-4a1e-8100-d573c40312f8\"}]}")));
 
         final PostCacheHandler handler = new PostCacheHandler(repository, cacheConfig, metricsRecorder, builder,
-                webClientCircuitBreaker, samplingRate, apiConfig);
+                secondaryCacheReplicator, writtenIdFilter, samplingRate, apiConfig);
 
         final Mono<RequestObject> request = Mono.just(RequestObject.of(Collections.singletonList(PAYLOAD_TRANSFER)));
         final MockServerRequest requestMono = MockServerRequest.builder()
@@ -187,10 +240,14 @@ class PostCacheHandlerTests extends CacheHandlerTests {
                 100,
                 100,
                 100,
+                100,
+                cacheConfig.getMaxUuidLength(),
+                cacheConfig.getUuidGenerator(),
+                cacheConfig.getStorageFormat(),
                 "example.com",
                 "http");
         final var handler = new PostCacheHandler(repository, cacheConfigLocal, metricsRecorder, builder,
-                webClientCircuitBreaker, samplingRate, apiConfig);
+                secondaryCacheReplicator, writtenIdFilter, samplingRate, apiConfig);
 
         final Mono<RequestObject> request = Mono.just(RequestObject.of(Collections.singletonList(PAYLOAD_TRANSFER)));
         final MockServerRequest requestMono = MockServerRequest.builder()
@@ -209,12 +266,35 @@ class PostCacheHandlerTests extends CacheHandlerTests {
                 .verify();
     }
 
+    @Test
+    void testDeduplicatedContentKeyRejected() {
+        //given
+        final var handler = new PostCacheHandler(repository, cacheConfig, metricsRecorder, builder,
+                secondaryCacheReplicator, writtenIdFilter, samplingRate, apiConfig);
+        final var transfer = PAYLOAD_TRANSFER.toBuilder()
+                .key("sha256:47DEQpj8HBSa-_TImW-5JCeuQeRkm5NMpJWZG3hSuFU")
+                .build();
+
+        final MockServerRequest requestMono = MockServerRequest.builder()
+                .method(HttpMethod.POST)
+                .header(CONTENT_TYPE, MediaType.APPLICATION_JSON_UTF8_VALUE)
+                .body(Mono.just(RequestObject.of(Collections.singletonList(transfer))));
+
+        //when and then
+        StepVerifier.create(handler.save(requestMono))
+                .consumeNextWith(serverResponse -> assertEquals(400, serverResponse.statusCode().value()))
+                .expectComplete()
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void testUUIDDuplication() {
         given(currentDateProvider.get()).willReturn(new Date(100));
-        given(repository.save(PAYLOAD_WRAPPER))
-                .willReturn(Mono.just(PAYLOAD_WRAPPER))
-                .willReturn(Mono.error(new DuplicateKeyException("")));
+        given(repository.saveAll(List.of(PAYLOAD_WRAPPER)))
+                .willReturn(Flux.just(PAYLOAD_WRAPPER))
+                .willReturn(Flux.error(new DuplicateKeyException("")));
 
         final CacheConfig cacheConfigLocal = new CacheConfig(cacheConfig.getPrefix(),
                 cacheConfig.getExpirySec(),
@@ -227,10 +307,14 @@ class PostCacheHandlerTests extends CacheHandlerTests {
                 100,
                 100,
                 100,
+                100,
+                cacheConfig.getMaxUuidLength(),
+                cacheConfig.getUuidGenerator(),
+                cacheConfig.getStorageFormat(),
                 "example.com",
                 "http");
         final PostCacheHandler handler = new PostCacheHandler(repository, cacheConfigLocal, metricsRecorder, builder,
-                webClientCircuitBreaker, samplingRate, apiConfig);
+                secondaryCacheReplicator, writtenIdFilter, samplingRate, apiConfig);
 
         final Mono<RequestObject> request = Mono.just(RequestObject.of(Collections.singletonList(PAYLOAD_TRANSFER)));
         final MockServerRequest requestMono = MockServerRequest.builder()
@@ -269,7 +353,8 @@ class PostCacheHandlerTests extends CacheHandlerTests {
                 cacheConfig,
                 metricsRecorder,
                 builder,
-                webClientCircuitBreaker,
+                secondaryCacheReplicator,
+                writtenIdFilter,
                 samplingRate,
                 apiConfig);
 
@@ -293,7 +378,8 @@ class PostCacheHandlerTests extends CacheHandlerTests {
                 cacheConfig,
                 metricsRecorder,
                 builder,
-                webClientCircuitBreaker,
+                secondaryCacheReplicator,
+                writtenIdFilter,
                 samplingRate,
                 apiConfig);
 
@@ -314,14 +400,15 @@ class PostCacheHandlerTests extends CacheHandlerTests {
     void testUuidAuthorizationWithValidApiKey() {
         given(apiConfig.isExternalUUIDSecured()).willReturn(true);
         given(apiConfig.getApiKey()).willReturn("api-key");
-        given(repository.save(PAYLOAD_WRAPPER)).willReturn(Mono.just(PAYLOAD_WRAPPER));
+        given(repository.saveAll(List.of(PAYLOAD_WRAPPER))).willReturn(Flux.just(PAYLOAD_WRAPPER));
 
         final var handler = new PostCacheHandler(
                 repository,
                 cacheConfig,
                 metricsRecorder,
                 builder,
-                webClientCircuitBreaker,
+                secondaryCacheReplicator,
+                writtenIdFilter,
                 samplingRate,
                 apiConfig);
 
@@ -0,0 +1,158 @@
+package org.prebid.cache.helpers;
+
+import org.junit.jupiter.api.Test;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PayloadWrapperCodecTest {
+
+    private static final String VAST = """
+            <VAST version="3.0"><Ad id="1"><InLine><AdTitle>"quoted" \\ title</AdTitle></InLine></Ad></VAST>""";
+
+    private final PayloadWrapperCodec binaryCodec = new PayloadWrapperCodec(PayloadWrapperCodec.Format.BINARY);
+
+    private final PayloadWrapperCodec jsonCodec = new PayloadWrapperCodec(PayloadWrapperCodec.Format.JSON);
+
+    private final PayloadWrapperCodec compressingCodec =
+            new PayloadWrapperCodec(PayloadWrapperCodec.Format.BINARY, 256);
+
+    @Test
+    void decodeShouldRestoreEncodedWrapper() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key:with;delimiters", VAST));
+
+        // when
+        final PayloadWrapper result = binaryCodec.decode(binaryCodec.encode(wrapper));
+
+        // then
+        assertThat(result).isEqualTo(wrapper);
+    }
+
+    @Test
+    void encodeShouldStoreValueUnescaped() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key", VAST));
+
+        // when
+        final String result = binaryCodec.encode(wrapper);
+
+        // then
+        assertThat(result).endsWith(VAST);
+    }
+
+    @Test
+    void decodeShouldRestoreWrapperWithNullFields() {
+        // given
+        final PayloadWrapper wrapper = PayloadWrapper.builder()
+                .id("id")
+                .payload(Payload.of("json", null, null))
+                .build();
+
+        // when
+        final PayloadWrapper result = binaryCodec.decode(binaryCodec.encode(wrapper));
+
+        // then
+        assertThat(result).isEqualTo(wrapper);
+    }
+
+    @Test
+    void decodeShouldReadLegacyJsonRecords() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key", VAST));
+
+        // when
+        final PayloadWrapper result = binaryCodec.decode(jsonCodec.encode(wrapper));
+
+        // then
+        assertThat(result).isEqualTo(wrapper);
+    }
+
+    @Test
+    void decodeShouldKeepLargeValueCompressed() {
+        // given
+        final String value = VAST.repeat(20);
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key", value));
+
+        // when
+        final String record = compressingCodec.encode(wrapper);
+        final PayloadWrapper result = compressingCodec.decode(record);
+
+        // then
+        assertThat(record.length()).isLessThan(value.length());
+        assertThat(result.getPayload().getValue()).isNull();
+        assertThat(new String(PayloadCompression.gunzip(result.getGzippedValue()), StandardCharsets.UTF_8))
+                .isEqualTo(value);
+        assertThat(PayloadCompression.decompress(result)).isEqualTo(wrapper);
+    }
+
+    @Test
+    void encodeShouldNotCompressSmallValue() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key", VAST));
+
+        // when
+        final PayloadWrapper result = compressingCodec.decode(compressingCodec.encode(wrapper));
+
+        // then
+        assertThat(result.getGzippedValue()).isNull();
+        assertThat(result).isEqualTo(wrapper);
+    }
+
+    @Test
+    void jsonEncodeShouldStoreCompressedValueDecompressed() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key", VAST.repeat(20)));
+
+        // when
+        final PayloadWrapper result = jsonCodec.decode(jsonCodec.encode(compressingCodec.decode(
+                compressingCodec.encode(wrapper))));
+
+        // then
+        assertThat(result.getGzippedValue()).isNull();
+        assertThat(result).isEqualTo(wrapper);
+    }
+
+    @Test
+    void decodeShouldRestoreContentReference() {
+        // given
+        final PayloadWrapper wrapper = PayloadWrapper.builder()
+                .id("2be04ba5-8f9b-4a1e-8100-d573c40312f8")
+                .prefix("prebid_")
+                .payload(Payload.of("xml", "key", null))
+                .expiry(300L)
+                .contentId("sha256-content")
+                .build();
+
+        // when
+        final PayloadWrapper result = binaryCodec.decode(binaryCodec.encode(wrapper));
+
+        // then
+        assertThat(result).isEqualTo(wrapper);
+        assertThat(result.getContentId()).isEqualTo("sha256-content");
+    }
+
+    @Test
+    void decodeShouldFailOnTruncatedRecord() {
+        // given
+        final String record = binaryCodec.encode(givenWrapper(Payload.of("xml", "key", VAST)));
+
+        // when and then
+        assertThatThrownBy(() -> binaryCodec.decode(record.substring(0, 8)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PayloadWrapper givenWrapper(Payload payload) {
+        return PayloadWrapper.builder()
+                .id("2be04ba5-8f9b-4a1e-8100-d573c40312f8")
+                .prefix("prebid_")
+                .payload(payload)
+                .timestamp(1700000000000L)
+                .expiry(300L)
+                .build();
+    }
+}
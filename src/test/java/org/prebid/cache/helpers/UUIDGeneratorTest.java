@@ -0,0 +1,36 @@
+package org.prebid.cache.helpers;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UUIDGeneratorTest {
+
+    @ParameterizedTest
+    @EnumSource(UUIDGenerator.class)
+    void generateShouldReturnValidUUIDWithExpectedVersionAndVariant(UUIDGenerator generator) {
+        // when
+        final UUID result = UUID.fromString(generator.generate());
+
+        // then
+        assertThat(result.version()).isEqualTo(generator == UUIDGenerator.TIME_ORDERED ? 7 : 4);
+        assertThat(result.variant()).isEqualTo(2);
+        assertThat(RandomUUID.isValidUUID(result.toString())).isTrue();
+    }
+
+    @Test
+    void generateShouldPrefixTimeOrderedUUIDWithCurrentTime() {
+        // given
+        final long before = System.currentTimeMillis();
+
+        // when
+        final UUID result = UUID.fromString(UUIDGenerator.TIME_ORDERED.generate());
+
+        // then
+        assertThat(result.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,104 @@
+package org.prebid.cache.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.cache.metrics.MetricsRecorder;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingReactiveRepositoryTest {
+
+    @Mock
+    private ReactiveRepository<String, String> delegate;
+
+    private MetricsRecorder metricsRecorder;
+
+    private CoalescingReactiveRepository<String, String> target;
+
+    @BeforeEach
+    public void before() {
+        metricsRecorder = new MetricsRecorder(new SimpleMeterRegistry());
+        target = new CoalescingReactiveRepository<>(delegate, metricsRecorder);
+    }
+
+    @Test
+    public void findByIdShouldShareInFlightReadForSameId() {
+        // given
+        final Sinks.One<String> storageRead = Sinks.one();
+        final AtomicInteger subscriptions = new AtomicInteger();
+        given(delegate.findById("key"))
+                .willReturn(storageRead.asMono().doOnSubscribe(subscription -> subscriptions.incrementAndGet()));
+
+        // when
+        final Mono<String> first = target.findById("key");
+        final Mono<String> second = target.findById("key");
+
+        // then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> storageRead.tryEmitValue("value"))
+                .assertNext(result -> {
+                    assertThat(result.getT1()).isEqualTo("value");
+                    assertThat(result.getT2()).isEqualTo("value");
+                })
+                .expectComplete()
+                .verify();
+
+        assertThat(subscriptions.get()).isEqualTo(1);
+        assertThat(metricsRecorder.getCoalescedRead().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void findByIdShouldReadAgainOnceInFlightReadCompleted() {
+        // given
+        given(delegate.findById("key")).willReturn(Mono.just("value"));
+
+        // when
+        target.findById("key").block();
+        final Mono<String> result = target.findById("key");
+
+        // then
+        StepVerifier.create(result)
+                .expectNext("value")
+                .expectComplete()
+                .verify();
+
+        verify(delegate, times(2)).findById("key");
+        assertThat(metricsRecorder.getCoalescedRead().count()).isZero();
+    }
+
+    @Test
+    public void findByIdShouldPropagateErrorToAllCoalescedReaders() {
+        // given
+        final Sinks.One<String> storageRead = Sinks.one();
+        given(delegate.findById("key")).willReturn(storageRead.asMono());
+
+        // when
+        final Mono<String> first = target.findById("key");
+        final Mono<String> second = target.findById("key");
+
+        // then
+        StepVerifier.create(Mono.zipDelayError(first.onErrorReturn("failed"), second.onErrorReturn("failed")))
+                .then(() -> storageRead.tryEmitError(new IllegalStateException("storage down")))
+                .assertNext(result -> {
+                    assertThat(result.getT1()).isEqualTo("failed");
+                    assertThat(result.getT2()).isEqualTo("failed");
+                })
+                .expectComplete()
+                .verify();
+
+        verify(delegate, times(1)).findById("key");
+    }
+}
@@ -0,0 +1,185 @@
+package org.prebid.cache.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeduplicatingReactiveRepositoryTest {
+
+    private static final String VALUE = "<VAST version=\"3.0\"><Ad id=\"1\"/></VAST>";
+
+    private static final long CONTENT_EXPIRY = 3600L;
+
+    private InMemoryRepository delegate;
+
+    private MetricsRecorder metricsRecorder;
+
+    private DeduplicatingReactiveRepository target;
+
+    @BeforeEach
+    public void before() {
+        delegate = new InMemoryRepository();
+        metricsRecorder = new MetricsRecorder(new SimpleMeterRegistry());
+        target = new DeduplicatingReactiveRepository(
+                delegate, 10, CONTENT_EXPIRY, 100, metricsRecorder, () -> delegate.now);
+    }
+
+    @Test
+    public void saveAllShouldStoreIdenticalValuesOnce() {
+        // given
+        final PayloadWrapper first = givenWrapper("first", VALUE, 300L);
+        final PayloadWrapper second = givenWrapper("second", VALUE, 600L);
+
+        // when and then
+        StepVerifier.create(target.saveAll(List.of(first, second)))
+                .expectNext(first, second)
+                .expectComplete()
+                .verify();
+
+        final List<PayloadWrapper> contents = delegate.entries.values().stream()
+                .filter(wrapper -> wrapper.getPayload().getValue() != null)
+                .toList();
+        assertThat(delegate.entries).hasSize(3);
+        assertThat(contents).singleElement()
+                .satisfies(content -> assertThat(content.getExpiry()).isEqualTo(CONTENT_EXPIRY));
+        assertThat(contents.get(0).getId()).startsWith("sha256:");
+        assertThat(delegate.entries.get("prebid_first").getContentId()).isEqualTo(contents.get(0).getId());
+        assertThat(delegate.entries.get("prebid_second").getContentId()).isEqualTo(contents.get(0).getId());
+    }
+
+    @Test
+    public void saveShouldStoreContentAgainOnlyWhenEntryOutlivesIt() {
+        // when
+        target.save(givenWrapper("first", VALUE, 300L)).block();
+        delegate.now = 3000L;
+        target.save(givenWrapper("second", VALUE, 600L)).block();
+        target.save(givenWrapper("third", VALUE, 900L)).block();
+
+        // then
+        assertThat(delegate.contentWrites).containsExactly(0L, 3000L);
+        assertThat(metricsRecorder.getDedupReused().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void saveFromAnotherNodeShouldNeverShortenContentLifetime() {
+        // given
+        final DeduplicatingReactiveRepository otherNode = new DeduplicatingReactiveRepository(
+                delegate, 10, CONTENT_EXPIRY, 100, metricsRecorder, () -> delegate.now);
+        target.save(givenWrapper("first", VALUE, 3600L)).block();
+        delegate.now = 100L;
+
+        // when
+        otherNode.save(givenWrapper("second", VALUE, 300L)).block();
+
+        // then
+        final String contentKey = "prebid_" + delegate.entries.get("prebid_first").getContentId();
+        assertThat(delegate.expirations.get(contentKey))
+                .isGreaterThanOrEqualTo(delegate.expirations.get("prebid_first"));
+        delegate.now = 3500L;
+        StepVerifier.create(target.findById("prebid_first"))
+                .expectNextMatches(wrapper -> VALUE.equals(wrapper.getPayload().getValue()))
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void saveShouldStoreSmallValueAsIs() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper("first", "small", 300L);
+
+        // when
+        target.save(wrapper).block();
+
+        // then
+        assertThat(delegate.entries).containsOnly(Map.entry("prebid_first", wrapper));
+    }
+
+    @Test
+    public void findByIdShouldResolveReferencedValue() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper("first", VALUE, 300L);
+        target.save(wrapper).block();
+
+        // when and then
+        StepVerifier.create(target.findById("prebid_first"))
+                .expectNext(wrapper)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void findAllByIdShouldSkipEntriesWhoseContentIsMissing() {
+        // given
+        final PayloadWrapper first = givenWrapper("first", VALUE, 300L);
+        final PayloadWrapper second = givenWrapper("second", VALUE + "<!-- other -->", 300L);
+        target.saveAll(List.of(first, second)).blockLast();
+        delegate.entries.remove("prebid_" + delegate.entries.get("prebid_second").getContentId());
+
+        // when and then
+        StepVerifier.create(target.findAllById(List.of("prebid_first", "prebid_second")))
+                .expectNext(first)
+                .expectComplete()
+                .verify();
+
+        assertThat(metricsRecorder.getDedupMissingContent().count()).isEqualTo(1);
+    }
+
+    private static PayloadWrapper givenWrapper(String id, String value, Long expiry) {
+        return PayloadWrapper.builder()
+                .id(id)
+                .prefix("prebid_")
+                .payload(Payload.of("xml", null, value))
+                .expiry(expiry)
+                .build();
+    }
+
+    private static class InMemoryRepository implements ReactiveRepository<PayloadWrapper, String> {
+
+        private final Map<String, PayloadWrapper> entries = new LinkedHashMap<>();
+        private final Map<String, Long> expirations = new HashMap<>();
+        private final List<Long> contentWrites = new ArrayList<>();
+        private long now;
+
+        // overwrites the entry and its expiration, the way SETEX does
+        @Override
+        public Mono<PayloadWrapper> save(PayloadWrapper wrapper) {
+            final String key = wrapper.getPrefix() + wrapper.getId();
+            entries.put(key, wrapper);
+            expirations.put(key, now + wrapper.getExpiry());
+            if (wrapper.getPayload().getType() == null) {
+                contentWrites.add(now);
+            }
+            return Mono.just(wrapper);
+        }
+
+        @Override
+        public Flux<PayloadWrapper> saveAll(List<PayloadWrapper> wrappers) {
+            return Flux.fromIterable(wrappers).concatMap(this::save);
+        }
+
+        @Override
+        public Mono<PayloadWrapper> findById(String id) {
+            final Long expiration = expirations.get(id);
+            return expiration != null && expiration > now ? Mono.justOrEmpty(entries.get(id)) : Mono.empty();
+        }
+
+        @Override
+        public Flux<PayloadWrapper> findAllById(List<String> ids) {
+            return Flux.fromIterable(ids).concatMap(this::findById);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.prebid.cache.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MissCachingReactiveRepositoryTest {
+
+    private static final PayloadWrapper FIRST_WRAPPER = givenWrapper("first");
+
+    @Mock
+    private ReactiveRepository<PayloadWrapper, String> delegate;
+
+    private MetricsRecorder metricsRecorder;
+
+    private MissCachingReactiveRepository target;
+
+    @BeforeEach
+    public void before() {
+        metricsRecorder = new MetricsRecorder(new SimpleMeterRegistry());
+        target = new MissCachingReactiveRepository(delegate, Duration.ofSeconds(10), 100, metricsRecorder);
+    }
+
+    @Test
+    public void findByIdShouldNotLookUpRecentlyMissingIdAgain() {
+        // given
+        given(delegate.findById("prefix_first")).willReturn(Mono.empty());
+        target.findById("prefix_first").block();
+
+        // when
+        final Mono<PayloadWrapper> result = target.findById("prefix_first");
+
+        // then
+        StepVerifier.create(result)
+                .expectComplete()
+                .verify();
+
+        verify(delegate, times(1)).findById("prefix_first");
+        assertThat(metricsRecorder.getMissCacheHit().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void findByIdShouldLookUpMissingIdAgainOnceSaved() {
+        // given
+        given(delegate.findById("prefix_first")).willReturn(Mono.empty(), Mono.just(FIRST_WRAPPER));
+        given(delegate.save(FIRST_WRAPPER)).willReturn(Mono.just(FIRST_WRAPPER));
+        target.findById("prefix_first").block();
+
+        // when
+        target.save(FIRST_WRAPPER).block();
+        final Mono<PayloadWrapper> result = target.findById("prefix_first");
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(FIRST_WRAPPER)
+                .expectComplete()
+                .verify();
+
+        verify(delegate, times(2)).findById("prefix_first");
+    }
+
+    @Test
+    public void findByIdShouldNotRememberMissOfReadRacingWithSave() {
+        // given
+        final Sinks.Empty<PayloadWrapper> inFlightRead = Sinks.empty();
+        given(delegate.findById("prefix_first")).willReturn(inFlightRead.asMono(), Mono.just(FIRST_WRAPPER));
+        given(delegate.save(FIRST_WRAPPER)).willReturn(Mono.just(FIRST_WRAPPER));
+        target.findById("prefix_first").subscribe();
+        target.save(FIRST_WRAPPER).block();
+        inFlightRead.tryEmitEmpty();
+
+        // when
+        final Mono<PayloadWrapper> result = target.findById("prefix_first");
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(FIRST_WRAPPER)
+                .expectComplete()
+                .verify();
+
+        verify(delegate, times(2)).findById("prefix_first");
+    }
+
+    @Test
+    public void findAllByIdShouldOnlyLookUpIdsNotRecentlyMissing() {
+        // given
+        given(delegate.findAllById(List.of("prefix_first", "prefix_second"))).willReturn(Flux.just(FIRST_WRAPPER));
+        given(delegate.findAllById(List.of("prefix_first"))).willReturn(Flux.just(FIRST_WRAPPER));
+        target.findAllById(List.of("prefix_first", "prefix_second")).blockLast();
+
+        // when
+        final Flux<PayloadWrapper> result = target.findAllById(List.of("prefix_first", "prefix_second"));
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(FIRST_WRAPPER)
+                .expectComplete()
+                .verify();
+
+        verify(delegate).findAllById(List.of("prefix_first"));
+        assertThat(metricsRecorder.getMissCacheHit().count()).isEqualTo(1);
+    }
+
+    private static PayloadWrapper givenWrapper(String id) {
+        return PayloadWrapper.builder()
+                .id(id)
+                .prefix("prefix_")
+                .payload(Payload.of("json", id, "value"))
+                .expiry(300L)
+                .build();
+    }
+}
@@ -0,0 +1,186 @@
+package org.prebid.cache.repository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheReactiveRepositoryTest {
+
+    private static final PayloadWrapper FIRST_WRAPPER = givenWrapper("first", 300L);
+    private static final PayloadWrapper SECOND_WRAPPER = givenWrapper("second", 300L);
+
+    @Mock
+    private ReactiveRepository<PayloadWrapper, String> delegate;
+
+    private final AtomicLong nowNanos = new AtomicLong();
+
+    private MetricsRecorder metricsRecorder;
+
+    private NearCacheReactiveRepository target;
+
+    @BeforeEach
+    public void before() {
+        metricsRecorder = new MetricsRecorder(new SimpleMeterRegistry());
+        target = new NearCacheReactiveRepository(delegate, Duration.ofSeconds(10), 1024 * 1024, metricsRecorder,
+                nowNanos::get, () -> TimeUnit.NANOSECONDS.toMillis(nowNanos.get()));
+    }
+
+    @Test
+    public void findByIdShouldReturnSavedWrapperWithoutCallingDelegate() {
+        // given
+        given(delegate.save(FIRST_WRAPPER)).willReturn(Mono.just(FIRST_WRAPPER));
+        target.save(FIRST_WRAPPER).block();
+
+        // when
+        final Mono<PayloadWrapper> result = target.findById("prefix_first");
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(FIRST_WRAPPER)
+                .expectComplete()
+                .verify();
+
+        verify(delegate).save(FIRST_WRAPPER);
+        verifyNoMoreInteractions(delegate);
+        assertThat(metricsRecorder.getNearCacheHit().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void findByIdShouldCallDelegateOnlyOnceForRepeatedMisses() {
+        // given
+        given(delegate.findById("prefix_first")).willReturn(Mono.just(FIRST_WRAPPER));
+
+        // when
+        target.findById("prefix_first").block();
+        final Mono<PayloadWrapper> result = target.findById("prefix_first");
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(FIRST_WRAPPER)
+                .expectComplete()
+                .verify();
+
+        verify(delegate, times(1)).findById("prefix_first");
+        assertThat(metricsRecorder.getNearCacheMiss().count()).isEqualTo(1);
+        assertThat(metricsRecorder.getNearCacheHit().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void findAllByIdShouldFetchOnlyMissingIdsFromDelegate() {
+        // given
+        given(delegate.saveAll(List.of(FIRST_WRAPPER))).willReturn(Flux.just(FIRST_WRAPPER));
+        given(delegate.findAllById(List.of("prefix_second"))).willReturn(Flux.just(SECOND_WRAPPER));
+        target.saveAll(List.of(FIRST_WRAPPER)).blockLast();
+
+        // when
+        final Flux<PayloadWrapper> result = target.findAllById(List.of("prefix_first", "prefix_second"));
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(FIRST_WRAPPER, SECOND_WRAPPER)
+                .expectComplete()
+                .verify();
+
+        verify(delegate).findAllById(List.of("prefix_second"));
+    }
+
+    @Test
+    public void findAllByIdShouldKeepOrderOfIdsWhenHitIsBetweenMisses() {
+        // given
+        final PayloadWrapper thirdWrapper = givenWrapper("third", 300L);
+        given(delegate.save(SECOND_WRAPPER)).willReturn(Mono.just(SECOND_WRAPPER));
+        given(delegate.findAllById(List.of("prefix_first", "prefix_third")))
+                .willReturn(Flux.just(FIRST_WRAPPER, thirdWrapper));
+        target.save(SECOND_WRAPPER).block();
+
+        // when
+        final Flux<PayloadWrapper> result = target.findAllById(
+                List.of("prefix_first", "prefix_second", "prefix_third"));
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(FIRST_WRAPPER, SECOND_WRAPPER, thirdWrapper)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void findByIdShouldNotServeEntriesPastTheirExpiry() {
+        // given
+        final PayloadWrapper shortLived = givenWrapper("short", 1L);
+        given(delegate.save(shortLived)).willReturn(Mono.just(shortLived));
+        given(delegate.findById("prefix_short")).willReturn(Mono.empty());
+        target.save(shortLived).block();
+
+        // when
+        advance(Duration.ofMillis(1100));
+        final Mono<PayloadWrapper> result = target.findById("prefix_short");
+
+        // then
+        StepVerifier.create(result)
+                .expectComplete()
+                .verify();
+
+        verify(delegate).findById("prefix_short");
+    }
+
+    @Test
+    public void findByIdShouldNotServeReadEntriesPastTheirBackendExpiry() {
+        // given
+        advance(Duration.ofSeconds(100));
+        final PayloadWrapper written = PayloadWrapper.builder()
+                .id("written")
+                .prefix("prefix_")
+                .payload(Payload.of("json", "written", "value"))
+                .timestamp(TimeUnit.NANOSECONDS.toMillis(nowNanos.get()) - 3000)
+                .expiry(5L)
+                .build();
+        given(delegate.findById("prefix_written")).willReturn(Mono.just(written), Mono.empty());
+        target.findById("prefix_written").block();
+
+        // when
+        advance(Duration.ofMillis(2100));
+        final Mono<PayloadWrapper> result = target.findById("prefix_written");
+
+        // then
+        StepVerifier.create(result)
+                .expectComplete()
+                .verify();
+
+        verify(delegate, times(2)).findById("prefix_written");
+    }
+
+    private void advance(Duration duration) {
+        nowNanos.addAndGet(duration.toNanos());
+    }
+
+    private static PayloadWrapper givenWrapper(String id, Long expiry) {
+        return PayloadWrapper.builder()
+                .id(id)
+                .prefix("prefix_")
+                .payload(Payload.of("json", id, "value"))
+                .expiry(expiry)
+                .build();
+    }
+}
@@ -8,6 +8,7 @@ import com.aerospike.client.policy.ClientPolicy;
 import com.aerospike.client.policy.Policy;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
 import org.prebid.cache.model.PayloadWrapper;
 import org.prebid.cache.repository.aerospike.AerospikePropertyConfiguration;
 import org.prebid.cache.repository.aerospike.AerospikeRepositoryImpl;
@@ -21,7 +22,8 @@ public class ReactiveTestAerospikeRepositoryContext {
     @Bean
     @Primary
     public ReactiveRepository<PayloadWrapper, String> createRepository() {
-        return new AerospikeRepositoryImpl(aerospikePropertyConfiguration(), client(), eventLoops(), readPolicy());
+        return new AerospikeRepositoryImpl(aerospikePropertyConfiguration(), client(), eventLoops(), readPolicy(),
+                new PayloadWrapperCodec(PayloadWrapperCodec.Format.JSON));
     }
 
     @Bean
@@ -2,9 +2,9 @@ package org.prebid.cache.repository;
 
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisURI;
-import io.lettuce.core.api.StatefulRedisConnection;
-import io.lettuce.core.api.reactive.RedisStringReactiveCommands;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
 import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.repository.redis.RedisCommandsPool;
 import org.prebid.cache.repository.redis.RedisRepositoryImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,8 +14,8 @@ import org.springframework.context.annotation.Primary;
 public class ReactiveTestRedisRepositoryContext {
     @Bean
     @Primary
-    public ReactiveRepository<PayloadWrapper, String> createRepository(RedisStringReactiveCommands<String, String> reactiveCommands) {
-        return new RedisRepositoryImpl(reactiveCommands);
+    public ReactiveRepository<PayloadWrapper, String> createRepository(RedisCommandsPool commandsPool) {
+        return new RedisRepositoryImpl(commandsPool, new PayloadWrapperCodec(PayloadWrapperCodec.Format.JSON));
     }
 
     @Bean
@@ -24,12 +24,7 @@ public class ReactiveTestRedisRepositoryContext {
     }
 
     @Bean
-    StatefulRedisConnection<String, String> connection() {
-        return client().connect();
-    }
-
-    @Bean
-    RedisStringReactiveCommands<String, String> reactiveCommands() {
-        return connection().reactive();
+    RedisCommandsPool commandsPool() {
+        return RedisCommandsPool.connect(client(), 1);
     }
 }
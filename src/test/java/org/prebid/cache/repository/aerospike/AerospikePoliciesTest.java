@@ -0,0 +1,60 @@
+package org.prebid.cache.repository.aerospike;
+
+import com.aerospike.client.policy.RecordExistsAction;
+import com.aerospike.client.policy.WritePolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AerospikePoliciesTest {
+
+    private AerospikePolicies target;
+
+    @BeforeEach
+    public void setUp() {
+        final AerospikePropertyConfiguration configuration = new AerospikePropertyConfiguration();
+        configuration.setFirstBackoff(300L);
+        configuration.setMaxBackoff(1000L);
+        configuration.setMaxRetry(3);
+        configuration.setPreventUUIDDuplication(true);
+        configuration.setTotalTimeout(500);
+        target = new AerospikePolicies(configuration);
+    }
+
+    @Test
+    public void writePolicyShouldBeSharedByWritesWithSameExpiry() {
+        // when
+        final WritePolicy first = target.writePolicy(300);
+        final WritePolicy second = target.writePolicy(300);
+        final WritePolicy other = target.writePolicy(600);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(first.expiration).isEqualTo(300);
+        assertThat(first.totalTimeout).isEqualTo(500);
+        assertThat(first.recordExistsAction).isEqualTo(RecordExistsAction.CREATE_ONLY);
+        assertThat(other.expiration).isEqualTo(600);
+    }
+
+    @Test
+    public void batchWritePolicyShouldBeSharedByWritesWithSameExpiry() {
+        // when and then
+        assertThat(target.batchWritePolicy(300)).isSameAs(target.batchWritePolicy(300));
+        assertThat(target.batchWritePolicy(300).expiration).isEqualTo(300);
+        assertThat(target.batchWritePolicy(300).recordExistsAction).isEqualTo(RecordExistsAction.CREATE_ONLY);
+    }
+
+    @Test
+    public void writePolicyShouldReplaceWholeRecordWhenDuplicatesAreAllowed() {
+        // given
+        final AerospikePropertyConfiguration configuration = new AerospikePropertyConfiguration();
+        configuration.setFirstBackoff(300L);
+        configuration.setMaxBackoff(1000L);
+        target = new AerospikePolicies(configuration);
+
+        // when and then
+        assertThat(target.writePolicy(300).recordExistsAction).isEqualTo(RecordExistsAction.REPLACE);
+        assertThat(target.batchWritePolicy(300).recordExistsAction).isEqualTo(RecordExistsAction.REPLACE);
+    }
+}
@@ -0,0 +1,150 @@
+package org.prebid.cache.repository.aerospike;
+
+import com.aerospike.client.Bin;
+import com.aerospike.client.Record;
+import org.junit.jupiter.api.Test;
+import org.prebid.cache.helpers.PayloadCompression;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AerospikeRecordCodecTest {
+
+    private static final String VAST = """
+            <VAST version="3.0"><Ad id="ünïcødé"><InLine><AdTitle>"quoted" title</AdTitle></InLine></Ad></VAST>""";
+
+    private final PayloadWrapperCodec codec = new PayloadWrapperCodec(PayloadWrapperCodec.Format.BINARY, 64);
+
+    private final AerospikeRecordCodec separateCodec =
+            new AerospikeRecordCodec(AerospikeRecordCodec.Layout.SEPARATE, codec);
+
+    private final AerospikeRecordCodec singleCodec =
+            new AerospikeRecordCodec(AerospikeRecordCodec.Layout.SINGLE, codec);
+
+    @Test
+    void decodeShouldRestoreWrapperEncodedInSeparateBins() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key", "<VAST/>"));
+
+        // when
+        final Bin[] bins = separateCodec.encode(wrapper);
+        final PayloadWrapper result = separateCodec.decode(toRecord(bins));
+
+        // then
+        assertThat(PayloadCompression.decompress(result)).isEqualTo(wrapper);
+        assertThat(bins).extracting(bin -> bin.name).doesNotContain("cache");
+        assertThat(binValue(bins, "type")).isEqualTo(2);
+    }
+
+    @Test
+    void decodeShouldKeepValueAsStoredBytes() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key", VAST));
+        final Bin[] bins = separateCodec.encode(wrapper);
+
+        // when
+        final PayloadWrapper result = separateCodec.decode(toRecord(bins));
+
+        // then
+        assertThat(result.getPayload().getValue()).isNull();
+        assertThat(result.getValueBytes()).isSameAs(binValue(bins, "value"));
+        assertThat(result.getValueBytes()).isEqualTo(VAST.getBytes(StandardCharsets.UTF_8));
+        assertThat(separateCodec.encode(result)).isEqualTo(bins);
+    }
+
+    @Test
+    void encodeShouldStoreLargeValueGzippedWithoutBase64() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("xml", "key", VAST.repeat(10)));
+
+        // when
+        final Bin[] bins = separateCodec.encode(wrapper);
+        final PayloadWrapper result = separateCodec.decode(toRecord(bins));
+
+        // then
+        assertThat(binValue(bins, "gz")).isEqualTo(1);
+        assertThat(result.getPayload().getValue()).isNull();
+        assertThat(PayloadCompression.decompress(result)).isEqualTo(wrapper);
+    }
+
+    @Test
+    void encodeShouldKeepUnknownTypeAsString() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("custom", null, "value"));
+
+        // when
+        final Bin[] bins = separateCodec.encode(wrapper);
+
+        // then
+        assertThat(binValue(bins, "type")).isEqualTo("custom");
+        assertThat(PayloadCompression.decompress(separateCodec.decode(toRecord(bins)))).isEqualTo(wrapper);
+    }
+
+    @Test
+    void decodeShouldRestoreContentReference() {
+        // given
+        final PayloadWrapper wrapper = PayloadWrapper.builder()
+                .id("id")
+                .prefix("prefix_")
+                .payload(Payload.of("json", null, null))
+                .expiry(300L)
+                .contentId("sha256-content")
+                .build();
+
+        // when
+        final PayloadWrapper result = separateCodec.decode(toRecord(separateCodec.encode(wrapper)));
+
+        // then
+        assertThat(result.getContentId()).isEqualTo("sha256-content");
+        assertThat(result.getPayload().getType()).isEqualTo("json");
+    }
+
+    @Test
+    void decodeShouldReadLegacyCacheBinInSeparateLayout() {
+        // given
+        final PayloadWrapper wrapper = givenWrapper(Payload.of("json", "key", "{\"a\":1}"));
+        final Bin[] legacyBins = singleCodec.encode(wrapper);
+
+        // when
+        final PayloadWrapper result = separateCodec.decode(toRecord(legacyBins));
+
+        // then
+        assertThat(legacyBins).extracting(bin -> bin.name).containsExactly("cache");
+        assertThat(result).isEqualTo(wrapper);
+    }
+
+    private static PayloadWrapper givenWrapper(Payload payload) {
+        return PayloadWrapper.builder()
+                .id("2be04ba5-8f9b-4a1e-8100-d573c40312f8")
+                .prefix("prebid_")
+                .payload(payload)
+                .timestamp(1700000000000L)
+                .expiry(300L)
+                .build();
+    }
+
+    // bins are read back the way the client returns them, with integers as longs
+    private static Record toRecord(Bin[] bins) {
+        final Map<String, Object> values = new HashMap<>();
+        for (Bin bin : bins) {
+            final Object value = bin.value.getObject();
+            values.put(bin.name, value instanceof Integer number ? Long.valueOf(number) : value);
+        }
+        return new Record(values, 1, 300);
+    }
+
+    private static Object binValue(Bin[] bins, String name) {
+        return Arrays.stream(bins)
+                .filter(bin -> bin.name.equals(name))
+                .map(bin -> bin.value.getObject())
+                .findFirst()
+                .orElse(null);
+    }
+}
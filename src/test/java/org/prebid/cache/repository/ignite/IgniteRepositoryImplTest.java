@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.prebid.cache.exceptions.RepositoryException;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
 import org.prebid.cache.model.Payload;
 import org.prebid.cache.model.PayloadWrapper;
 import reactor.core.publisher.Mono;
@@ -16,6 +17,9 @@ import reactor.test.StepVerifier;
 
 import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -23,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -36,7 +41,7 @@ class IgniteRepositoryImplTest {
 
     @BeforeEach
     public void before() {
-        target = new IgniteRepositoryImpl(cache);
+        target = new IgniteRepositoryImpl(cache, new PayloadWrapperCodec(PayloadWrapperCodec.Format.JSON));
     }
 
     @Test
@@ -74,6 +79,42 @@ class IgniteRepositoryImplTest {
                 .verify();
     }
 
+    @Test
+    public void findAllByIdShouldReturnFoundPayloadWrappersInRequestedOrder() {
+        // given
+        final String givenPayload = """
+                {
+                    "id": "second",
+                    "prefix": "",
+                    "payload": {
+                        "type": "text",
+                        "key": "second",
+                        "value": "value"
+                    },
+                    "expiry": 999
+                }
+                """;
+
+        given(cache.getAllAsync(Set.of("first", "second")))
+                .willReturn(IgniteClientFutureImpl.completedFuture(Map.of("second", givenPayload)));
+
+        // when
+        final var result = target.findAllById(List.of("first", "second"));
+
+        // then
+        final PayloadWrapper expectedPayload = PayloadWrapper.builder()
+                .id("second")
+                .prefix("")
+                .payload(Payload.of("text", "second", "value"))
+                .expiry(999L)
+                .build();
+
+        StepVerifier.create(result)
+                .expectNext(expectedPayload)
+                .expectComplete()
+                .verify();
+    }
+
     @Test
     public void findByIdShouldFailWithClientException() {
         // given
@@ -186,4 +227,66 @@ class IgniteRepositoryImplTest {
         StepVerifier.create(result).verifyComplete();
         verifyNoInteractions(cache);
     }
+
+    @Test
+    public void saveAllShouldPutGeneratedIdsWithSameExpiryInSingleBatch() {
+        // given
+        given(cache.withExpirePolicy(any())).willAnswer(ignored -> cache);
+        given(cache.putAllAsync(any())).willReturn(IgniteClientFutureImpl.completedFuture(null));
+
+        final PayloadWrapper firstWrapper = PayloadWrapper.builder()
+                .id("first")
+                .prefix("")
+                .payload(Payload.of("text", "first", "value"))
+                .expiry(999L)
+                .build();
+        final PayloadWrapper secondWrapper = PayloadWrapper.builder()
+                .id("second")
+                .prefix("")
+                .payload(Payload.of("text", "second", "value"))
+                .expiry(999L)
+                .build();
+
+        // when
+        final var result = target.saveAll(List.of(firstWrapper, secondWrapper));
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(firstWrapper, secondWrapper)
+                .expectComplete()
+                .verify();
+
+        verify(cache).putAllAsync(eq(Map.of(
+                "first", "{\"id\":\"first\",\"prefix\":\"\",\"payload\":{\"type\":\"text\",\"key\":\"first\","
+                        + "\"value\":\"value\"},\"expiry\":999}",
+                "second", "{\"id\":\"second\",\"prefix\":\"\",\"payload\":{\"type\":\"text\",\"key\":\"second\","
+                        + "\"value\":\"value\"},\"expiry\":999}")));
+        verify(cache, never()).putIfAbsentAsync(any(), any());
+    }
+
+    @Test
+    public void saveAllShouldNotOverwriteExternalIds() {
+        // given
+        given(cache.withExpirePolicy(any())).willAnswer(ignored -> cache);
+        given(cache.putIfAbsentAsync(eq("key"), any())).willReturn(IgniteClientFutureImpl.completedFuture(true));
+
+        final PayloadWrapper givenPayloadWrapper = PayloadWrapper.builder()
+                .id("key")
+                .prefix("")
+                .payload(Payload.of("text", "key", "value"))
+                .expiry(999L)
+                .isExternalId(true)
+                .build();
+
+        // when
+        final var result = target.saveAll(List.of(givenPayloadWrapper));
+
+        // then
+        StepVerifier.create(result)
+                .expectNext(givenPayloadWrapper)
+                .expectComplete()
+                .verify();
+
+        verify(cache, never()).putAllAsync(any());
+    }
 }
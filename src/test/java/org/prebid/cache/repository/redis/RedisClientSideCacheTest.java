@@ -0,0 +1,115 @@
+package org.prebid.cache.repository.redis;
+
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisClientSideCacheTest {
+
+    private static final PayloadWrapper WRAPPER = PayloadWrapper.builder()
+            .id("first")
+            .prefix("prefix_")
+            .payload(Payload.of("json", "key", "value"))
+            .expiry(300L)
+            .build();
+
+    @Mock
+    private StatefulRedisConnection<String, String> connection;
+
+    @Mock
+    private RedisCommands<String, String> commands;
+
+    @Mock
+    private PushMessage pushMessage;
+
+    private MetricsRecorder metricsRecorder;
+
+    private RedisClientSideCache target;
+
+    @BeforeEach
+    public void setUp() {
+        metricsRecorder = new MetricsRecorder(new SimpleMeterRegistry());
+        target = new RedisClientSideCache(100, Duration.ofMinutes(5), metricsRecorder);
+    }
+
+    @Test
+    public void trackShouldTurnOnTrackingAndDropInvalidatedKeys() {
+        // given
+        given(connection.sync()).willReturn(commands);
+        target.track(connection);
+        target.put("prefix_first", WRAPPER);
+        target.put("prefix_second", WRAPPER);
+
+        final ArgumentCaptor<PushListener> listener = ArgumentCaptor.forClass(PushListener.class);
+        verify(connection).addListener(listener.capture());
+        verify(commands).clientTracking(any(TrackingArgs.class));
+
+        given(pushMessage.getType()).willReturn("invalidate");
+        given(pushMessage.getContent(any())).willReturn(List.of("invalidate", List.of("prefix_first")));
+
+        // when
+        listener.getValue().onPushMessage(pushMessage);
+
+        // then
+        assertThat(target.get("prefix_first")).isNull();
+        assertThat(target.get("prefix_second")).isSameAs(WRAPPER);
+        assertThat(metricsRecorder.getRedisClientCacheHit().count()).isEqualTo(1);
+        assertThat(metricsRecorder.getRedisClientCacheMiss().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void flushInvalidationShouldDropAllKeys() {
+        // given
+        given(connection.sync()).willReturn(commands);
+        target.track(connection);
+        target.put("prefix_first", WRAPPER);
+
+        final ArgumentCaptor<PushListener> listener = ArgumentCaptor.forClass(PushListener.class);
+        verify(connection).addListener(listener.capture());
+
+        given(pushMessage.getType()).willReturn("invalidate");
+        given(pushMessage.getContent(any())).willReturn(Arrays.asList("invalidate", null));
+
+        // when
+        listener.getValue().onPushMessage(pushMessage);
+
+        // then
+        assertThat(target.get("prefix_first")).isNull();
+    }
+
+    @Test
+    public void disconnectShouldDropEntriesAndStopCachingUntilTrackingIsBack() {
+        // given
+        target.put("prefix_first", WRAPPER);
+
+        // when
+        target.onRedisDisconnected(null);
+        target.put("prefix_second", WRAPPER);
+
+        // then
+        assertThat(target.get("prefix_first")).isNull();
+        assertThat(target.get("prefix_second")).isNull();
+    }
+}
@@ -0,0 +1,151 @@
+package org.prebid.cache.repository.redis;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.api.reactive.RedisStringReactiveCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.prebid.cache.helpers.PayloadWrapperCodec;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RedisRepositoryImplTest {
+
+    private static final PayloadWrapper WRAPPER = PayloadWrapper.builder()
+            .id("2be04ba5-8f9b-4a1e-8100-d573c40312f8")
+            .prefix("prebid_")
+            .payload(Payload.of("xml", "key", "<VAST version=\"3.0\"><Ad id=\"ünïcødé\"/></VAST>"))
+            .expiry(300L)
+            .build();
+
+    private final PayloadWrapperCodec codec = new PayloadWrapperCodec(PayloadWrapperCodec.Format.BINARY);
+
+    @Mock
+    private RedisStringReactiveCommands<String, String> firstCommands;
+
+    @Mock
+    private RedisStringReactiveCommands<String, String> secondCommands;
+
+    private RedisRepositoryImpl target;
+
+    @BeforeEach
+    public void setUp() {
+        target = new RedisRepositoryImpl(
+                new RedisCommandsPool(List.of(), List.of(firstCommands, secondCommands)), codec);
+    }
+
+    @Test
+    public void saveAllShouldSpreadCommandsAcrossPooledConnections() {
+        // given
+        given(firstCommands.setex(any(), anyLong(), any())).willReturn(Mono.just("OK"));
+        given(secondCommands.setex(any(), anyLong(), any())).willReturn(Mono.just("OK"));
+
+        // when and then
+        StepVerifier.create(target.saveAll(List.of(WRAPPER, WRAPPER)))
+                .expectNext(WRAPPER, WRAPPER)
+                .expectComplete()
+                .verify();
+
+        final String expectedValue = codec.encode(WRAPPER);
+        verify(firstCommands).setex(eq("prebid_2be04ba5-8f9b-4a1e-8100-d573c40312f8"), eq(300L), eq(expectedValue));
+        verify(secondCommands).setex(eq("prebid_2be04ba5-8f9b-4a1e-8100-d573c40312f8"), eq(300L), eq(expectedValue));
+    }
+
+    @Test
+    public void findAllByIdShouldDecodeFoundValues() {
+        // given
+        final String value = codec.encode(WRAPPER);
+        given(firstCommands.mget("first", "second"))
+                .willReturn(Flux.just(KeyValue.just("first", value), KeyValue.empty("second")));
+
+        // when and then
+        StepVerifier.create(target.findAllById(List.of("first", "second")))
+                .expectNext(WRAPPER)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void findByIdShouldServeRepeatedReadsFromClientSideCache() {
+        // given
+        final RedisClientSideCache clientSideCache = new RedisClientSideCache(
+                100, Duration.ofMinutes(5), new MetricsRecorder(new SimpleMeterRegistry()));
+        target = new RedisRepositoryImpl(
+                new RedisCommandsPool(List.of(), List.of(firstCommands)), codec, clientSideCache);
+        given(firstCommands.get("first")).willReturn(Mono.just(codec.encode(WRAPPER)));
+        target.findById("first").block();
+
+        // when and then
+        StepVerifier.create(target.findById("first"))
+                .expectNext(WRAPPER)
+                .expectComplete()
+                .verify();
+
+        verify(firstCommands, times(1)).get("first");
+    }
+
+    @Test
+    public void findAllByIdShouldOnlyFetchKeysMissingFromClientSideCache() {
+        // given
+        final RedisClientSideCache clientSideCache = new RedisClientSideCache(
+                100, Duration.ofMinutes(5), new MetricsRecorder(new SimpleMeterRegistry()));
+        target = new RedisRepositoryImpl(
+                new RedisCommandsPool(List.of(), List.of(firstCommands)), codec, clientSideCache);
+        clientSideCache.put("first", WRAPPER);
+        given(firstCommands.mget("second")).willReturn(Flux.just(KeyValue.empty("second")));
+
+        // when and then
+        StepVerifier.create(target.findAllById(List.of("first", "second")))
+                .expectNext(WRAPPER)
+                .expectComplete()
+                .verify();
+    }
+
+    @Test
+    public void findAllByIdShouldKeepOrderOfIdsWhenHitIsBetweenMisses() {
+        // given
+        final RedisClientSideCache clientSideCache = new RedisClientSideCache(
+                100, Duration.ofMinutes(5), new MetricsRecorder(new SimpleMeterRegistry()));
+        target = new RedisRepositoryImpl(
+                new RedisCommandsPool(List.of(), List.of(firstCommands)), codec, clientSideCache);
+        final PayloadWrapper first = givenWrapper("first");
+        final PayloadWrapper second = givenWrapper("second");
+        final PayloadWrapper third = givenWrapper("third");
+        clientSideCache.put("second", second);
+        given(firstCommands.mget("first", "third")).willReturn(Flux.just(
+                KeyValue.just("first", codec.encode(first)), KeyValue.just("third", codec.encode(third))));
+
+        // when and then
+        StepVerifier.create(target.findAllById(List.of("first", "second", "third")))
+                .expectNext(first, second, third)
+                .expectComplete()
+                .verify();
+    }
+
+    private static PayloadWrapper givenWrapper(String id) {
+        return PayloadWrapper.builder()
+                .id(id)
+                .prefix("prebid_")
+                .payload(Payload.of("json", null, id))
+                .expiry(300L)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package org.prebid.cache.repository.redis;
+
+import io.lettuce.core.ReadFrom;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RedisUtilsTest {
+
+    @Test
+    void createReadFromShouldDefaultToUpstream() {
+        // when and then
+        assertThat(RedisUtils.createReadFrom(new RedisConfigurationProperties.Cluster()))
+                .isSameAs(ReadFrom.UPSTREAM);
+    }
+
+    @Test
+    void createReadFromShouldResolveConfiguredSetting() {
+        // given
+        final RedisConfigurationProperties.Cluster cluster = new RedisConfigurationProperties.Cluster();
+        cluster.setReadFrom("replicaPreferred");
+
+        // when and then
+        assertThat(RedisUtils.createReadFrom(cluster)).isSameAs(ReadFrom.REPLICA_PREFERRED);
+    }
+
+    @Test
+    void createReadFromShouldFailOnUnknownSetting() {
+        // given
+        final RedisConfigurationProperties.Cluster cluster = new RedisConfigurationProperties.Cluster();
+        cluster.setReadFrom("fastest");
+
+        // when and then
+        assertThatThrownBy(() -> RedisUtils.createReadFrom(cluster)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
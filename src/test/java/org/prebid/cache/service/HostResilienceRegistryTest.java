@@ -0,0 +1,59 @@
+package org.prebid.cache.service;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostResilienceRegistryTest {
+
+    private HostResilienceRegistry target;
+
+    @BeforeEach
+    public void before() {
+        final BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        target = new HostResilienceRegistry(CircuitBreakerRegistry.ofDefaults(), bulkheadRegistry,
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    public void circuitBreakerShouldBeSharedByUrlsOfSameHost() {
+        assertThat(target.circuitBreaker("http://first:8080/cache"))
+                .isSameAs(target.circuitBreaker("http://first:8080"))
+                .isNotSameAs(target.circuitBreaker("http://second:8080"));
+    }
+
+    @Test
+    public void guardShouldRejectCallsBeyondHostConcurrencyLimit() {
+        // given
+        final Sinks.One<String> inFlight = Sinks.one();
+        final Mono<String> first = inFlight.asMono().transform(target.guard("http://first"));
+
+        // when and then
+        StepVerifier.create(first)
+                .then(() -> {
+                    StepVerifier.create(Mono.just("second").transform(target.guard("http://first")))
+                            .expectError(BulkheadFullException.class)
+                            .verify();
+                    StepVerifier.create(Mono.just("other").transform(target.guard("http://other")))
+                            .expectNext("other")
+                            .verifyComplete();
+                    inFlight.tryEmitValue("first");
+                })
+                .expectNext("first")
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,99 @@
+package org.prebid.cache.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.cache.config.ProxyCacheConfig;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.ProxyResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProxyResponseCacheTest {
+
+    private static final ProxyResponse OK_RESPONSE = ProxyResponse.of(HttpStatus.OK, new HttpHeaders(), "body");
+
+    private final AtomicInteger fetches = new AtomicInteger();
+
+    private MetricsRecorder metricsRecorder;
+
+    private ProxyResponseCache target;
+
+    @BeforeEach
+    public void before() {
+        metricsRecorder = new MetricsRecorder(new SimpleMeterRegistry());
+        target = new ProxyResponseCache(new ProxyCacheConfig(true, 60000, 1024 * 1024), metricsRecorder);
+    }
+
+    @Test
+    public void getShouldServeSuccessfulResponseFromCache() {
+        // when
+        StepVerifier.create(target.get("key", () -> fetch(OK_RESPONSE))).expectNext(OK_RESPONSE).verifyComplete();
+        StepVerifier.create(target.get("key", () -> fetch(OK_RESPONSE))).expectNext(OK_RESPONSE).verifyComplete();
+
+        // then
+        assertThat(fetches.get()).isEqualTo(1);
+        assertThat(metricsRecorder.getProxyCacheMiss().count()).isEqualTo(1);
+        assertThat(metricsRecorder.getProxyCacheHit().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void getShouldNotCacheUnsuccessfulResponse() {
+        // given
+        final ProxyResponse notFound = ProxyResponse.of(HttpStatus.NOT_FOUND, new HttpHeaders(), "");
+
+        // when
+        StepVerifier.create(target.get("key", () -> fetch(notFound))).expectNext(notFound).verifyComplete();
+        StepVerifier.create(target.get("key", () -> fetch(notFound))).expectNext(notFound).verifyComplete();
+
+        // then
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void getShouldShareInFlightFetchForSameKey() {
+        // given
+        final Sinks.One<ProxyResponse> remote = Sinks.one();
+
+        // when
+        final Mono<ProxyResponse> first = target.get("key",
+                () -> remote.asMono().doOnSubscribe(subscription -> fetches.incrementAndGet()));
+        final Mono<ProxyResponse> second = target.get("key", () -> fetch(OK_RESPONSE));
+
+        // then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> remote.tryEmitValue(OK_RESPONSE))
+                .assertNext(result -> assertThat(result.getT2()).isSameAs(result.getT1()))
+                .verifyComplete();
+
+        assertThat(fetches.get()).isEqualTo(1);
+        assertThat(metricsRecorder.getProxyCoalesced().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void getShouldAlwaysFetchWhenDisabled() {
+        // given
+        target = new ProxyResponseCache(new ProxyCacheConfig(), metricsRecorder);
+
+        // when
+        StepVerifier.create(target.get("key", () -> fetch(OK_RESPONSE))).expectNext(OK_RESPONSE).verifyComplete();
+        StepVerifier.create(target.get("key", () -> fetch(OK_RESPONSE))).expectNext(OK_RESPONSE).verifyComplete();
+
+        // then
+        assertThat(fetches.get()).isEqualTo(2);
+    }
+
+    private Mono<ProxyResponse> fetch(ProxyResponse response) {
+        return Mono.fromSupplier(() -> {
+            fetches.incrementAndGet();
+            return response;
+        });
+    }
+}
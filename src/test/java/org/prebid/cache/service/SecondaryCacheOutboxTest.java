@@ -0,0 +1,164 @@
+package org.prebid.cache.service;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.prebid.cache.metrics.MetricsRecorder;
+import org.prebid.cache.model.Payload;
+import org.prebid.cache.model.PayloadWrapper;
+import org.prebid.cache.routers.ApiConfig;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SecondaryCacheOutboxTest {
+
+    private final List<ClientRequest> requests = new ArrayList<>();
+    private final AtomicReference<HttpStatus> responseStatus = new AtomicReference<>(HttpStatus.OK);
+
+    private MetricsRecorder metricsRecorder;
+    private WebClient webClient;
+
+    @BeforeEach
+    public void before() {
+        metricsRecorder = new MetricsRecorder(new SimpleMeterRegistry());
+        webClient = WebClient.builder()
+                .baseUrl("http://secondary")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(responseStatus.get()).build());
+                })
+                .build();
+    }
+
+    @Test
+    public void flushShouldSendQueuedEntriesInBatches() {
+        // given
+        final SecondaryCacheOutbox outbox = createOutbox(2, 10, null);
+        outbox.enqueue(List.of(wrapper("1"), wrapper("2"), wrapper("3")));
+
+        // when and then
+        StepVerifier.create(outbox.flush()).verifyComplete();
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).url().getQuery()).isEqualTo("secondaryCache=yes");
+    }
+
+    @Test
+    public void flushShouldSendBatchesConcurrently() {
+        // given
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        webClient = WebClient.builder()
+                .baseUrl("http://secondary")
+                .exchangeFunction(request -> Mono.delay(Duration.ofMillis(50))
+                        .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(
+                                inFlight.incrementAndGet(), Math::max))
+                        .doFinally(signal -> inFlight.decrementAndGet())
+                        .thenReturn(ClientResponse.create(HttpStatus.OK).build()))
+                .build();
+        final SecondaryCacheOutbox outbox = createOutbox(1, 10, null);
+        outbox.enqueue(List.of(wrapper("1"), wrapper("2"), wrapper("3")));
+
+        // when and then
+        StepVerifier.create(outbox.flush()).verifyComplete();
+
+        assertThat(maxInFlight.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void enqueueShouldDropEntriesWhenQueueIsFullAndSpillIsDisabled() {
+        // given
+        final SecondaryCacheOutbox outbox = createOutbox(10, 1, null);
+
+        // when
+        outbox.enqueue(List.of(wrapper("1"), wrapper("2")));
+
+        // then
+        assertThat(metricsRecorder.getSecondaryDropped().count()).isEqualTo(1);
+    }
+
+    @Test
+    public void failedEntriesShouldBeSpilledAndReplayed(@TempDir Path spillDir) {
+        // given
+        final Path spillFile = spillDir.resolve("secondary.spill");
+        final SecondaryCacheOutbox outbox = createOutbox(10, 10, spillFile);
+        outbox.enqueue(List.of(wrapper("1"), wrapper("2")));
+        responseStatus.set(HttpStatus.SERVICE_UNAVAILABLE);
+
+        // when
+        StepVerifier.create(outbox.flush()).verifyComplete();
+
+        // then
+        assertThat(metricsRecorder.getSecondaryCacheWriteError().count()).isEqualTo(1);
+        assertThat(metricsRecorder.getSecondarySpilled().count()).isEqualTo(2);
+        assertThat(spillFile).exists();
+
+        // when
+        responseStatus.set(HttpStatus.OK);
+        StepVerifier.create(outbox.replay().then(outbox.flush())).verifyComplete();
+
+        // then
+        assertThat(metricsRecorder.getSecondaryReplayed().count()).isEqualTo(2);
+        assertThat(Files.exists(spillFile)).isFalse();
+        assertThat(requests).hasSize(2);
+    }
+
+    @Test
+    public void rejectedBatchShouldBeSentEntryByEntryAndRejectedEntriesDropped(@TempDir Path spillDir) {
+        // given
+        webClient = WebClient.builder()
+                .baseUrl("http://secondary")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    final HttpStatus status = requests.size() == 1 || requests.size() == 3
+                            ? HttpStatus.BAD_REQUEST
+                            : HttpStatus.OK;
+                    return Mono.just(ClientResponse.create(status).build());
+                })
+                .build();
+        final Path spillFile = spillDir.resolve("secondary.spill");
+        final SecondaryCacheOutbox outbox = createOutbox(10, 10, spillFile);
+        outbox.enqueue(List.of(wrapper("1"), wrapper("2")));
+
+        // when
+        StepVerifier.create(outbox.flush()).verifyComplete();
+
+        // then
+        assertThat(requests).hasSize(3);
+        assertThat(metricsRecorder.getSecondaryDropped().count()).isEqualTo(1);
+        assertThat(metricsRecorder.getSecondarySpilled().count()).isZero();
+        assertThat(spillFile).doesNotExist();
+    }
+
+    private SecondaryCacheOutbox createOutbox(int batchSize, int queueCapacity, Path spillFile) {
+        return new SecondaryCacheOutbox("http://secondary", webClient, "cache", new ApiConfig(), batchSize,
+                queueCapacity, spillFile, CircuitBreaker.ofDefaults("secondary"), Bulkhead.ofDefaults("secondary"),
+                metricsRecorder);
+    }
+
+    private static PayloadWrapper wrapper(String id) {
+        return PayloadWrapper.builder()
+                .id(id)
+                .prefix("prebid_")
+                .payload(Payload.of("json", id, "value"))
+                .expiry(300L)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package org.prebid.cache.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.prebid.cache.config.WrittenIdFilterConfig;
+import org.prebid.cache.repository.CacheConfig;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WrittenIdFilterTest {
+
+    private static final long MAX_EXPIRY_MS = 80_000L;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private WrittenIdFilter target;
+
+    @BeforeEach
+    public void setUp() {
+        final CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setMaxExpiry(MAX_EXPIRY_MS / 1000);
+
+        target = new WrittenIdFilter(new WrittenIdFilterConfig(true, 8, 1000, 0.001), cacheConfig, now::get);
+    }
+
+    @Test
+    public void mightContainShouldAllowAnyIdUntilMaxExpiryElapsed() {
+        // when and then
+        assertThat(target.mightContain("prebid_unknown")).isTrue();
+
+        now.addAndGet(MAX_EXPIRY_MS);
+        assertThat(target.mightContain("prebid_unknown")).isFalse();
+    }
+
+    @Test
+    public void mightContainShouldKnowIdsWrittenWithinMaxExpiry() {
+        // given
+        target.put("prebid_first");
+        now.addAndGet(MAX_EXPIRY_MS / 2);
+        target.put("prebid_second");
+
+        // when
+        now.addAndGet(MAX_EXPIRY_MS / 2);
+
+        // then
+        assertThat(target.mightContain("prebid_first")).isTrue();
+        assertThat(target.mightContain("prebid_second")).isTrue();
+        assertThat(target.mightContain("prebid_third")).isFalse();
+    }
+
+    @Test
+    public void mightContainShouldForgetIdsOnceExpired() {
+        // given
+        target.put("prebid_first");
+        now.addAndGet(MAX_EXPIRY_MS / 2);
+        target.put("prebid_second");
+
+        // when
+        now.addAndGet(MAX_EXPIRY_MS / 2 + MAX_EXPIRY_MS / 8);
+
+        // then
+        assertThat(target.mightContain("prebid_first")).isFalse();
+        assertThat(target.mightContain("prebid_second")).isTrue();
+    }
+
+    @Test
+    public void mightContainShouldAllowAnyIdWhenDisabled() {
+        // given
+        final CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setMaxExpiry(MAX_EXPIRY_MS / 1000);
+        final WrittenIdFilter disabled = new WrittenIdFilter(new WrittenIdFilterConfig(), cacheConfig, now::get);
+
+        // when
+        now.addAndGet(MAX_EXPIRY_MS);
+
+        // then
+        assertThat(disabled.mightContain("prebid_unknown")).isTrue();
+    }
+}